@@ -0,0 +1,49 @@
+package com.auction.cricket.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class BroadcastConfig {
+
+    /**
+     * Single-threaded so subscribers see events in the order they were
+     * committed. When the queue is full the publisher blocks until there is
+     * room rather than dropping a broadcast.
+     */
+    @Bean(name = "broadcastExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor broadcastExecutor(MeterRegistry meterRegistry,
+            @Value("${app.broadcast.queue-capacity:10000}") int queueCapacity) {
+        Counter backpressure = Counter.builder("auction.broadcast.backpressure")
+                .description("Broadcasts that had to wait for queue space")
+                .register(meterRegistry);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "auction-broadcast");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Broadcast executor has been shut down");
+            }
+            backpressure.increment();
+            try {
+                pool.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting to queue broadcast", e);
+            }
+        });
+        return executor;
+    }
+}
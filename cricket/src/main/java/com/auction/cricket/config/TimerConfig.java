@@ -0,0 +1,25 @@
+package com.auction.cricket.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.auction.cricket.util.HashedTimingWheel;
+
+@Configuration
+public class TimerConfig {
+
+    /**
+     * Drives every lot countdown on the node. A 10ms tick with 512 buckets
+     * covers about five seconds per revolution; longer delays simply wait out
+     * extra rounds.
+     */
+    @Bean(destroyMethod = "stop")
+    public HashedTimingWheel lotTimer(
+            @Value("${app.lots.timer.tick-ms:10}") long tickMs,
+            @Value("${app.lots.timer.wheel-size:512}") int wheelSize) {
+        return new HashedTimingWheel("lot-timer", tickMs, TimeUnit.MILLISECONDS, wheelSize);
+    }
+}
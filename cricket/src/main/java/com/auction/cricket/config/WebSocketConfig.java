@@ -6,32 +6,84 @@ import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.auction.cricket.event.OutboundConflator;
+import com.auction.cricket.event.WireCodecNegotiator;
+import com.auction.cricket.security.AuctionSubscriptionInterceptor;
+import com.auction.cricket.security.StompAuthenticationInterceptor;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final String allowedOrigins;
+    private final long heartbeatMs;
+    private final StompAuthenticationInterceptor authenticationInterceptor;
+    private final AuctionSubscriptionInterceptor subscriptionInterceptor;
+    private final OutboundConflator outboundConflator;
+    private final WireCodecNegotiator wireCodecNegotiator;
 
-    public WebSocketConfig(@Value("${app.cors.allowed-origins:http://localhost:3000}") String allowedOrigins) {
+    public WebSocketConfig(@Value("${app.cors.allowed-origins:http://localhost:3000}") String allowedOrigins,
+            @Value("${app.websocket.heartbeat-ms:10000}") long heartbeatMs,
+            StompAuthenticationInterceptor authenticationInterceptor,
+            AuctionSubscriptionInterceptor subscriptionInterceptor, OutboundConflator outboundConflator,
+            WireCodecNegotiator wireCodecNegotiator) {
         this.allowedOrigins = allowedOrigins;
+        this.heartbeatMs = heartbeatMs;
+        this.authenticationInterceptor = authenticationInterceptor;
+        this.subscriptionInterceptor = subscriptionInterceptor;
+        this.outboundConflator = outboundConflator;
+        this.wireCodecNegotiator = wireCodecNegotiator;
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        // Heartbeats let the broker close sessions whose clients vanished, which
+        // is what takes them out of presence
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+        config.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[] { heartbeatMs, heartbeatMs })
+                .setTaskScheduler(heartbeatScheduler);
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // Authenticate first so later interceptors see the session's principal
+        registration.interceptors(authenticationInterceptor, subscriptionInterceptor, wireCodecNegotiator);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // Conflate first so held updates are re-encoded when they are released
+        registration.interceptors(outboundConflator, wireCodecNegotiator);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(outboundConflator::decorate);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        String[] origins = parseAllowedOrigins(allowedOrigins).toArray(new String[0]);
         registry.addEndpoint("/ws")
-                .setAllowedOrigins(parseAllowedOrigins(allowedOrigins).toArray(new String[0]))
+                .setAllowedOrigins(origins)
                 .withSockJS();
+        // Plain WebSocket, without SockJS, for clients that want binary frames
+        registry.addEndpoint("/ws-native")
+                .setAllowedOrigins(origins)
+                .addInterceptors(wireCodecNegotiator.nativeEndpointMarker());
     }
 
     private List<String> parseAllowedOrigins(String csv) {
@@ -11,11 +11,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.auction.cricket.dto.AuctionRequest;
 import com.auction.cricket.dto.AuctionResponse;
+import com.auction.cricket.dto.AuctionSummaryPageResponse;
 import com.auction.cricket.service.AuctionService;
+import com.auction.cricket.service.AuctionSummaryService;
+import com.auction.cricket.service.AuctionSummaryService.Listing;
 
 import jakarta.validation.Valid;
 
@@ -24,9 +28,11 @@ import jakarta.validation.Valid;
 public class AuctionController {
 
     private final AuctionService auctionService;
+    private final AuctionSummaryService auctionSummaryService;
 
-    public AuctionController(AuctionService auctionService) {
+    public AuctionController(AuctionService auctionService, AuctionSummaryService auctionSummaryService) {
         this.auctionService = auctionService;
+        this.auctionSummaryService = auctionSummaryService;
     }
 
     @GetMapping("/{id}")
@@ -47,18 +53,21 @@ public class AuctionController {
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<AuctionResponse>> getUpcomingAuctions() {
-        return ResponseEntity.ok(auctionService.getUpcomingAuctions());
+    public ResponseEntity<AuctionSummaryPageResponse> getUpcomingAuctions(
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(auctionSummaryService.getPage(Listing.UPCOMING, cursor, limit));
     }
 
     @GetMapping("/recent")
-    public ResponseEntity<List<AuctionResponse>> getRecentAuctions() {
-        return ResponseEntity.ok(auctionService.getRecentAuctions());
+    public ResponseEntity<AuctionSummaryPageResponse> getRecentAuctions(
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(auctionSummaryService.getPage(Listing.RECENT, cursor, limit));
     }
 
     @GetMapping("/past")
-    public ResponseEntity<List<AuctionResponse>> getPastAuctions() {
-        return ResponseEntity.ok(auctionService.getPastAuctions());
+    public ResponseEntity<AuctionSummaryPageResponse> getPastAuctions(
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(auctionSummaryService.getPage(Listing.PAST, cursor, limit));
     }
 
     @GetMapping
@@ -0,0 +1,48 @@
+package com.auction.cricket.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.auction.cricket.exception.ResourceNotFoundException;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.service.AuctionEventStream;
+
+@RestController
+@RequestMapping("/api/auctions/{auctionId}/events")
+public class AuctionEventStreamController {
+
+    private final AuctionEventStream auctionEventStream;
+    private final AuctionRepository auctionRepository;
+
+    public AuctionEventStreamController(AuctionEventStream auctionEventStream, AuctionRepository auctionRepository) {
+        this.auctionEventStream = auctionEventStream;
+        this.auctionRepository = auctionRepository;
+    }
+
+    // lastEventId as a query parameter is for clients that cannot set the header
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEvents(
+            @PathVariable Long auctionId,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(name = "lastEventId", required = false) String lastEventIdParam) {
+        if (!auctionRepository.existsById(auctionId)) {
+            throw new ResourceNotFoundException("Auction not found with id: " + auctionId);
+        }
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        StreamingResponseBody body = out -> auctionEventStream.stream(auctionId, lastEventId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .cacheControl(CacheControl.noCache())
+                // Stop reverse proxies from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+}
@@ -0,0 +1,39 @@
+package com.auction.cricket.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.auction.cricket.dto.AuctionResumeResponse;
+import com.auction.cricket.dto.AuctionSnapshotResponse;
+import com.auction.cricket.service.AuctionSyncService;
+
+@RestController
+@RequestMapping("/api/auctions/{auctionId}")
+public class AuctionSyncController {
+
+    private final AuctionSyncService auctionSyncService;
+
+    public AuctionSyncController(AuctionSyncService auctionSyncService) {
+        this.auctionSyncService = auctionSyncService;
+    }
+
+    @GetMapping("/snapshot")
+    public ResponseEntity<AuctionSnapshotResponse> getSnapshot(@PathVariable Long auctionId,
+            Authentication authentication) {
+        return ResponseEntity.ok(auctionSyncService.getSnapshot(auctionId, authentication.getName()));
+    }
+
+    // Same as the STOMP resume call, for clients that cannot hold a socket open
+    @GetMapping("/deltas")
+    public ResponseEntity<AuctionResumeResponse> getDeltas(
+            @PathVariable Long auctionId,
+            @RequestParam Long epoch,
+            @RequestParam long since) {
+        return ResponseEntity.ok(auctionSyncService.resume(auctionId, epoch, since));
+    }
+}
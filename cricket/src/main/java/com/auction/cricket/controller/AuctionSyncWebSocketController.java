@@ -0,0 +1,28 @@
+package com.auction.cricket.controller;
+
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import com.auction.cricket.dto.AuctionResumeResponse;
+import com.auction.cricket.service.AuctionSyncService;
+
+@Controller
+public class AuctionSyncWebSocketController {
+
+    private final AuctionSyncService auctionSyncService;
+
+    public AuctionSyncWebSocketController(AuctionSyncService auctionSyncService) {
+        this.auctionSyncService = auctionSyncService;
+    }
+
+    // Subscribing to /app/auctions/{auctionId}/resume answers once, to the subscriber only
+    @SubscribeMapping("/auctions/{auctionId}/resume")
+    public AuctionResumeResponse resume(
+            @DestinationVariable Long auctionId,
+            @Header(name = "epoch", required = false) Long epoch,
+            @Header(name = "from-version", defaultValue = "0") long fromVersion) {
+        return auctionSyncService.resume(auctionId, epoch, fromVersion);
+    }
+}
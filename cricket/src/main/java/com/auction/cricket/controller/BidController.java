@@ -21,8 +21,14 @@ public class BidController {
 
     @PostMapping
     public ResponseEntity<BidResponse> placeBid(
+            @PathVariable Long auctionId,
             @Valid @RequestBody BidRequest request,
-            @RequestParam Long teamId) {
+            @RequestParam Long teamId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        request.setAuctionId(auctionId);
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            request.setIdempotencyKey(idempotencyKey);
+        }
         return ResponseEntity.ok(bidService.placeBid(request, teamId));
     }
 
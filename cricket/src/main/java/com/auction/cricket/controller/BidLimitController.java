@@ -0,0 +1,28 @@
+package com.auction.cricket.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.auction.cricket.dto.TeamBidLimitResponse;
+import com.auction.cricket.service.BidBookService;
+
+@RestController
+@RequestMapping("/api/auctions/{auctionId}/bid-limits")
+public class BidLimitController {
+
+    private final BidBookService bidBookService;
+
+    public BidLimitController(BidBookService bidBookService) {
+        this.bidBookService = bidBookService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TeamBidLimitResponse>> getBidLimits(@PathVariable Long auctionId) {
+        return ResponseEntity.ok(bidBookService.getBidLimits(auctionId));
+    }
+}
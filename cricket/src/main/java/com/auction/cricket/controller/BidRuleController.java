@@ -22,6 +22,7 @@ import com.auction.cricket.exception.ResourceNotFoundException;
 import com.auction.cricket.repository.AuctionRepository;
 import com.auction.cricket.repository.BidRuleRepository;
 import com.auction.cricket.service.AccessEntitlementService;
+import com.auction.cricket.service.BidRuleEngine;
 
 import jakarta.validation.Valid;
 
@@ -32,12 +33,14 @@ public class BidRuleController {
     private final BidRuleRepository bidRuleRepository;
     private final AuctionRepository auctionRepository;
     private final AccessEntitlementService accessEntitlementService;
+    private final BidRuleEngine bidRuleEngine;
 
     public BidRuleController(BidRuleRepository bidRuleRepository, AuctionRepository auctionRepository,
-            AccessEntitlementService accessEntitlementService) {
+            AccessEntitlementService accessEntitlementService, BidRuleEngine bidRuleEngine) {
         this.bidRuleRepository = bidRuleRepository;
         this.auctionRepository = auctionRepository;
         this.accessEntitlementService = accessEntitlementService;
+        this.bidRuleEngine = bidRuleEngine;
     }
 
     @GetMapping
@@ -73,6 +76,7 @@ public class BidRuleController {
         rule.setIncrementAmount(request.getIncrementAmount());
         rule.setAuction(auction);
         rule = bidRuleRepository.save(rule);
+        bidRuleEngine.invalidate(auctionId);
         return ResponseEntity.ok(toResponse(rule));
     }
 
@@ -89,6 +93,7 @@ public class BidRuleController {
         rule.setThresholdAmount(request.getThresholdAmount());
         rule.setIncrementAmount(request.getIncrementAmount());
         rule = bidRuleRepository.save(rule);
+        bidRuleEngine.invalidate(auctionId);
         return ResponseEntity.ok(toResponse(rule));
     }
 
@@ -102,6 +107,7 @@ public class BidRuleController {
             throw new ResourceNotFoundException("Bid rule not found for auction: " + auctionId);
         }
         bidRuleRepository.delete(rule);
+        bidRuleEngine.invalidate(auctionId);
         return ResponseEntity.ok().build();
     }
 
@@ -1,11 +1,12 @@
 package com.auction.cricket.controller;
 
+import java.security.Principal;
+
 import com.auction.cricket.dto.BidRequest;
-import com.auction.cricket.dto.BidResponse;
+import com.auction.cricket.security.StompAuthenticationInterceptor;
 import com.auction.cricket.service.BidService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Controller;
 
@@ -15,10 +16,19 @@ public class BidWebSocketController {
     @Autowired
     private BidService bidService;
 
+    @Autowired
+    private StompAuthenticationInterceptor stompAuthentication;
+
+    // Returns nothing: a return value would be echoed to the global /topic/bids.
+    // Accepted bids reach subscribers through /topic/auctions/{auctionId}/bids
     @MessageMapping("/bids")
-    @SendTo("/topic/bids")
-    public BidResponse handleBid(@Payload BidRequest bidRequest) {
-        Long teamId = bidRequest.getTeamId(); // Ensure BidRequest has getTeamId()
-        return bidService.placeBid(bidRequest, teamId);
+    public void handleBid(@Payload BidRequest bidRequest, Principal principal) {
+        if (bidRequest.getAuctionId() == null) {
+            throw new IllegalArgumentException("Auction ID is required");
+        }
+        // Authorized from the session's cached principal; the bid book rejects
+        // teams that are not part of the auction
+        stompAuthentication.requireOrganizer(principal, bidRequest.getAuctionId());
+        bidService.placeBid(bidRequest, bidRequest.getTeamId());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.auction.cricket.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.auction.cricket.dto.LotCountdownResponse;
+import com.auction.cricket.service.BidBookService;
+
+@RestController
+@RequestMapping("/api/auctions/{auctionId}/players/{playerId}/lot")
+public class LotController {
+
+    private final BidBookService bidBookService;
+
+    public LotController(BidBookService bidBookService) {
+        this.bidBookService = bidBookService;
+    }
+
+    @PostMapping("/open")
+    public ResponseEntity<LotCountdownResponse> openLot(
+            @PathVariable Long auctionId,
+            @PathVariable Long playerId) {
+        return ResponseEntity.ok(bidBookService.openLot(auctionId, playerId));
+    }
+
+    @PostMapping("/close")
+    public ResponseEntity<LotCountdownResponse> closeLot(
+            @PathVariable Long auctionId,
+            @PathVariable Long playerId) {
+        return ResponseEntity.ok(bidBookService.closeLot(auctionId, playerId));
+    }
+}
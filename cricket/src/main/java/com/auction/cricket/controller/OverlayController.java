@@ -0,0 +1,34 @@
+package com.auction.cricket.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.auction.cricket.dto.OverlayFrameResponse;
+import com.auction.cricket.exception.ResourceNotFoundException;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.service.OverlayStateService;
+
+@RestController
+@RequestMapping("/api/auctions/{auctionId}/overlay")
+public class OverlayController {
+
+    private final OverlayStateService overlayStateService;
+    private final AuctionRepository auctionRepository;
+
+    public OverlayController(OverlayStateService overlayStateService, AuctionRepository auctionRepository) {
+        this.overlayStateService = overlayStateService;
+        this.auctionRepository = auctionRepository;
+    }
+
+    // Initial frame for an overlay before it subscribes to /topic/auctions/{id}/overlay
+    @GetMapping
+    public ResponseEntity<OverlayFrameResponse> getOverlay(@PathVariable Long auctionId) {
+        if (!auctionRepository.existsById(auctionId)) {
+            throw new ResourceNotFoundException("Auction not found with id: " + auctionId);
+        }
+        return ResponseEntity.ok(overlayStateService.getFrame(auctionId));
+    }
+}
@@ -14,6 +14,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.auction.cricket.dto.PlayerPageRequest;
+import com.auction.cricket.dto.PlayerPageResponse;
 import com.auction.cricket.dto.PlayerRequest;
 import com.auction.cricket.dto.PlayerResponse;
 import com.auction.cricket.dto.UpdatePlayerStatusRequest;
@@ -44,6 +46,12 @@ public class PlayerController {
         return ResponseEntity.ok(playerService.getAllPlayers(auctionId));
     }
 
+    // Filtered, sorted pages; see PlayerPageRequest for the query parameters
+    @GetMapping("/page")
+    public ResponseEntity<PlayerPageResponse> getPlayerPage(@PathVariable Long auctionId, PlayerPageRequest request) {
+        return ResponseEntity.ok(playerService.getPlayerPage(auctionId, request));
+    }
+
     @GetMapping("/available")
     public ResponseEntity<List<PlayerResponse>> getAvailablePlayers(@PathVariable Long auctionId) {
         return ResponseEntity.ok(playerService.getAvailablePlayers(auctionId));
@@ -0,0 +1,34 @@
+package com.auction.cricket.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.auction.cricket.dto.PresenceResponse;
+import com.auction.cricket.exception.ResourceNotFoundException;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.service.PresenceRegistry;
+
+@RestController
+@RequestMapping("/api/auctions/{auctionId}/presence")
+public class PresenceController {
+
+    private final PresenceRegistry presenceRegistry;
+    private final AuctionRepository auctionRepository;
+
+    public PresenceController(PresenceRegistry presenceRegistry, AuctionRepository auctionRepository) {
+        this.presenceRegistry = presenceRegistry;
+        this.auctionRepository = auctionRepository;
+    }
+
+    // Full state; diffs with a higher version follow on /topic/auctions/{id}/presence
+    @GetMapping
+    public ResponseEntity<PresenceResponse> getPresence(@PathVariable Long auctionId) {
+        if (!auctionRepository.existsById(auctionId)) {
+            throw new ResourceNotFoundException("Auction not found with id: " + auctionId);
+        }
+        return ResponseEntity.ok(presenceRegistry.getPresence(auctionId));
+    }
+}
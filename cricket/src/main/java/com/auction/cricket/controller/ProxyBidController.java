@@ -0,0 +1,43 @@
+package com.auction.cricket.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.auction.cricket.dto.ProxyBidRequest;
+import com.auction.cricket.dto.ProxyBidResponse;
+import com.auction.cricket.service.BidBookService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/auctions/{auctionId}/players/{playerId}/proxy-bids")
+public class ProxyBidController {
+
+    private final BidBookService bidBookService;
+
+    public ProxyBidController(BidBookService bidBookService) {
+        this.bidBookService = bidBookService;
+    }
+
+    @PutMapping("/{teamId}")
+    public ResponseEntity<ProxyBidResponse> registerProxyBid(
+            @PathVariable Long auctionId,
+            @PathVariable Long playerId,
+            @PathVariable Long teamId,
+            @Valid @RequestBody ProxyBidRequest request) {
+        return ResponseEntity.ok(bidBookService.registerProxyBid(auctionId, playerId, teamId, request.getCeiling()));
+    }
+
+    @DeleteMapping("/{teamId}")
+    public ResponseEntity<ProxyBidResponse> cancelProxyBid(
+            @PathVariable Long auctionId,
+            @PathVariable Long playerId,
+            @PathVariable Long teamId) {
+        return ResponseEntity.ok(bidBookService.cancelProxyBid(auctionId, playerId, teamId));
+    }
+}
@@ -0,0 +1,16 @@
+package com.auction.cricket.dto;
+
+import lombok.Data;
+
+@Data
+public class AuctionDeltaResponse {
+    private Long auctionId;
+    // Identifies the server's delta stream; versions are only comparable within one epoch
+    private Long epoch;
+    private Long version;
+    // BID, PLAYER, TEAM or LOT
+    private String type;
+    // BidResponse, player id, team id or LotCountdownResponse depending on the type
+    private Object payload;
+    private Long timestamp;
+}
@@ -0,0 +1,15 @@
+package com.auction.cricket.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class AuctionResumeResponse {
+    private Long auctionId;
+    // False when the requested version is no longer buffered; fetch a fresh snapshot instead
+    private boolean resumed;
+    private Long epoch;
+    private Long version;
+    private List<AuctionDeltaResponse> deltas;
+}
@@ -0,0 +1,15 @@
+package com.auction.cricket.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class AuctionSnapshotResponse {
+    private Long epoch;
+    // Deltas after this version apply on top of the snapshot
+    private Long version;
+    private AuctionResponse auction;
+    private List<TeamResponse> teams;
+    private List<PlayerResponse> availablePlayers;
+}
@@ -0,0 +1,12 @@
+package com.auction.cricket.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class AuctionSummaryPageResponse {
+    private List<AuctionSummaryResponse> items;
+    // Pass back as ?cursor= for the next page; null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,16 @@
+package com.auction.cricket.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+@Data
+public class AuctionSummaryResponse {
+    private Long id;
+    private String name;
+    private String logoUrl;
+    private LocalDateTime auctionDate;
+    private Long teamCount;
+    private Long playerCount;
+    private Long soldCount;
+}
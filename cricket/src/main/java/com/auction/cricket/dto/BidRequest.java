@@ -15,4 +15,10 @@ public class BidRequest {
 
     @NotNull(message = "Team ID is required")
     private Long teamId;
+
+    // Optional; resolved from the player when absent
+    private Long auctionId;
+
+    // Optional client-generated key; retries with the same key are answered from cache
+    private String idempotencyKey;
 } 
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.auction.cricket.dto;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 public class BidResponse {
@@ -14,4 +15,8 @@ public class BidResponse {
     private Double amount;
     private LocalDateTime timestamp;
     private Boolean isWinningBid;
+    private Long sequence;
+    // Smallest acceptable next bid on this player
+    private Double nextValidBid;
+    private List<TeamBidLimitResponse> teamLimits;
 } 
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.auction.cricket.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class LotCountdownResponse {
+    private Long auctionId;
+    private Long playerId;
+    private String phase;
+    private String status;
+    private Double currentPrice;
+    private Long leadingTeamId;
+    // Epoch millis at which the next phase begins; null once the lot is closed
+    private Long deadline;
+    private Long serverTime;
+    private Double nextValidBid;
+    // Only sent when the lot closes and a team's limits change
+    private List<TeamBidLimitResponse> teamLimits;
+}
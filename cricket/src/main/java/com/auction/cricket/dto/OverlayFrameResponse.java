@@ -0,0 +1,26 @@
+package com.auction.cricket.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class OverlayFrameResponse {
+    private Long auctionId;
+    // Increases every time the rendered state changes
+    private Long version;
+    private Long playerId;
+    private String playerName;
+    private String playerPhotoUrl;
+    private String playerRole;
+    private Double price;
+    private Long leadingTeamId;
+    private String leadingTeamName;
+    private String phase;
+    private String status;
+    // Epoch millis; overlays tick the countdown down locally against serverTime
+    private Long deadline;
+    private Long serverTime;
+    private List<OverlayTeamResponse> teams;
+    private SponsorResponse sponsor;
+}
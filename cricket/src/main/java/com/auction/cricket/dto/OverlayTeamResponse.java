@@ -0,0 +1,12 @@
+package com.auction.cricket.dto;
+
+import lombok.Data;
+
+@Data
+public class OverlayTeamResponse {
+    private Long teamId;
+    private String name;
+    private Double remainingBudget;
+    private Integer openSlots;
+    private Double maxAllowableBid;
+}
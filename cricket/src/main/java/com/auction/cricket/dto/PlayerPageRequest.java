@@ -0,0 +1,23 @@
+package com.auction.cricket.dto;
+
+import com.auction.cricket.entity.PlayerStatus;
+
+import lombok.Data;
+
+/**
+ * Query parameters for a page of an auction's players. Every filter is optional.
+ */
+@Data
+public class PlayerPageRequest {
+    private PlayerStatus status;
+    private String role;
+    private Boolean icon;
+    private Long teamId;
+    private String namePrefix;
+    private Double minPrice;
+    private Double maxPrice;
+    // NAME, PRICE_ASC, PRICE_DESC or REGISTERED
+    private String sort = "NAME";
+    private String cursor;
+    private Integer limit = 50;
+}
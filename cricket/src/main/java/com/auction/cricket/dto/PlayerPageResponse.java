@@ -0,0 +1,14 @@
+package com.auction.cricket.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class PlayerPageResponse {
+    private List<PlayerResponse> items;
+    // Pass back as ?cursor= for the next page; null on the last page
+    private String nextCursor;
+    // Players matching the filters; only counted for the first page
+    private Long totalCount;
+}
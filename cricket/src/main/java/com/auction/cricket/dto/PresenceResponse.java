@@ -0,0 +1,16 @@
+package com.auction.cricket.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class PresenceResponse {
+    private Long auctionId;
+    private Long version;
+    // False for diffs on the presence topic, which only list teams whose status changed
+    private Boolean full;
+    private Integer auctioneers;
+    private Integer viewers;
+    private List<TeamPresenceResponse> teams;
+}
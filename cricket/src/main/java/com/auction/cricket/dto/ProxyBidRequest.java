@@ -0,0 +1,12 @@
+package com.auction.cricket.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class ProxyBidRequest {
+    @NotNull(message = "Ceiling is required")
+    @Min(value = 0, message = "Ceiling must be positive")
+    private Double ceiling;
+}
@@ -0,0 +1,14 @@
+package com.auction.cricket.dto;
+
+import lombok.Data;
+
+@Data
+public class ProxyBidResponse {
+    private Long auctionId;
+    private Long playerId;
+    private Long teamId;
+    // Null once the proxy has been cancelled
+    private Double ceiling;
+    private Double currentPrice;
+    private Long leadingTeamId;
+}
@@ -0,0 +1,14 @@
+package com.auction.cricket.dto;
+
+import lombok.Data;
+
+@Data
+public class TeamBidLimitResponse {
+    private Long teamId;
+    private Double remainingBudget;
+    // Held by lots the team currently leads
+    private Double reservedBudget;
+    private Integer openSlots;
+    // Largest bid the team may make on a new lot and still fill its squad at the base price
+    private Double maxAllowableBid;
+}
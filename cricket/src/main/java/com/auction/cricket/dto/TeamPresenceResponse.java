@@ -0,0 +1,10 @@
+package com.auction.cricket.dto;
+
+import lombok.Data;
+
+@Data
+public class TeamPresenceResponse {
+    private Long teamId;
+    private Boolean online;
+    private Integer sessions;
+}
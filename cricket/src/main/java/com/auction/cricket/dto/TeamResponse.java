@@ -1,5 +1,7 @@
 package com.auction.cricket.dto;
 
+import java.util.Map;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,4 +21,6 @@ public class TeamResponse {
     private Boolean isActive;
     private Long auctionId;
     private String logoUrl;
+    // Players held per role
+    private Map<String, Integer> roleCounts;
 }
\ No newline at end of file
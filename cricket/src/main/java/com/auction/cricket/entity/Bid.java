@@ -3,11 +3,15 @@ package com.auction.cricket.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bids")
+@Table(name = "bids", indexes = {
+        @Index(name = "idx_bid_player_amount", columnList = "player_id, amount"),
+        @Index(name = "idx_bid_team_id", columnList = "team_id")
+})
 @Data
 @NoArgsConstructor
 public class Bid {
@@ -31,4 +35,12 @@ public class Bid {
 
     @Column(nullable = false)
     private Boolean isWinningBid = false;
+
+    @Column(name = "auction_sequence")
+    private Long sequence;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
 } 
\ No newline at end of file
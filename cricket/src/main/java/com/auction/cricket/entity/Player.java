@@ -2,28 +2,40 @@ package com.auction.cricket.entity;
 
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
-@Table(name = "players")
+@Table(name = "players", indexes = {
+        // Keyset orders for player listings
+        @Index(name = "idx_player_auction_name", columnList = "auction_id, name, id"),
+        @Index(name = "idx_player_auction_price", columnList = "auction_id, current_price, id"),
+        @Index(name = "idx_player_auction_status", columnList = "auction_id, status")
+})
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
@@ -60,6 +72,9 @@ public class Player {
     @Column(name = "is_icon", nullable = false)
     private Boolean isIcon = false;
 
+    @Column(name = "closed_sequence")
+    private Long closedSequence;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id", nullable = true)
     private Team team;
@@ -70,4 +85,17 @@ public class Player {
 
     @OneToMany(mappedBy = "player", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Bid> bids = new ArrayList<>();
+
+    // Highest bid on the player, kept in step by the bid write-behind. No FK
+    // constraint: bids and players reference each other and are deleted together.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "current_bid_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Bid currentBid;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
 }
@@ -0,0 +1,150 @@
+package com.auction.cricket.event;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import com.auction.cricket.dto.BidResponse;
+import com.auction.cricket.dto.LotCountdownResponse;
+import com.auction.cricket.dto.TeamBidLimitResponse;
+import com.auction.cricket.entity.PlayerStatus;
+import com.auction.cricket.service.LotPhase;
+import com.auction.cricket.util.Money;
+
+/**
+ * Compact binary form of the hot live-auction frames, for clients that
+ * negotiate {@value #CODEC_NAME} at STOMP CONNECT. Names are never sent; a
+ * client resolves player and team ids against its snapshot. Amounts are in
+ * minor units. Encoding writes straight from the DTOs into a per-thread buffer
+ * that is allocated once.
+ *
+ * <p>Every frame starts with a version byte and a type byte. The fields that
+ * follow are unsigned LEB128 varints, in this order, except enum ordinals,
+ * which are single bytes. Nullable fields are written as value + 1, with 0
+ * meaning absent. Timestamps are epoch millis.
+ * <ul>
+ * <li>{@link #BID_ACCEPTED}: sequence, player id, team id, amount,
+ * timestamp, nullable next valid bid, team purses</li>
+ * <li>{@link #PRICE_CHANGE}: player id, phase ordinal, status ordinal, price,
+ * nullable leading team id, nullable deadline, server time, nullable next
+ * valid bid</li>
+ * <li>{@link #LOT_SOLD}: player id, status ordinal, price, nullable winning
+ * team id, server time, team purses</li>
+ * </ul>
+ * Team purses are a count followed by, for each team: team id, remaining
+ * budget, reserved budget, nullable open slots, maximum allowable bid.
+ */
+public final class AuctionBinaryCodec {
+
+    public static final String CODEC_NAME = "binary-v1";
+    static final byte VERSION = 1;
+    static final byte BID_ACCEPTED = 1;
+    static final byte PRICE_CHANGE = 2;
+    static final byte LOT_SOLD = 3;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<ByteBuffer> BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(BUFFER_SIZE));
+
+    private AuctionBinaryCodec() {
+    }
+
+    public static byte[] encodeBid(BidResponse bid) {
+        ByteBuffer buffer = start(BID_ACCEPTED);
+        // Bids are broadcast before they have a database id; the sequence identifies them
+        putVarLong(buffer, bid.getSequence());
+        putVarLong(buffer, bid.getPlayerId());
+        putVarLong(buffer, bid.getTeamId());
+        putVarLong(buffer, Money.toMinor(bid.getAmount()));
+        putVarLong(buffer, toEpochMillis(bid.getTimestamp()));
+        putNullable(buffer, toMinorOrNull(bid.getNextValidBid()));
+        putPurses(buffer, bid.getTeamLimits());
+        return finish(buffer);
+    }
+
+    public static byte[] encodeLot(LotCountdownResponse lot) {
+        boolean closed = LotPhase.CLOSED.name().equals(lot.getPhase());
+        ByteBuffer buffer = start(closed ? LOT_SOLD : PRICE_CHANGE);
+        putVarLong(buffer, lot.getPlayerId());
+        if (!closed) {
+            buffer.put((byte) LotPhase.valueOf(lot.getPhase()).ordinal());
+        }
+        buffer.put((byte) PlayerStatus.valueOf(lot.getStatus()).ordinal());
+        putVarLong(buffer, Money.toMinor(lot.getCurrentPrice()));
+        putNullable(buffer, lot.getLeadingTeamId());
+        if (closed) {
+            putVarLong(buffer, lot.getServerTime());
+            putPurses(buffer, lot.getTeamLimits());
+        } else {
+            putNullable(buffer, lot.getDeadline());
+            putVarLong(buffer, lot.getServerTime());
+            putNullable(buffer, toMinorOrNull(lot.getNextValidBid()));
+        }
+        return finish(buffer);
+    }
+
+    private static void putPurses(ByteBuffer buffer, List<TeamBidLimitResponse> limits) {
+        if (limits == null) {
+            putVarLong(buffer, 0);
+            return;
+        }
+        putVarLong(buffer, limits.size());
+        for (TeamBidLimitResponse limit : limits) {
+            putVarLong(buffer, limit.getTeamId());
+            putVarLong(buffer, Money.toMinor(limit.getRemainingBudget()));
+            putVarLong(buffer, Money.toMinor(limit.getReservedBudget()));
+            putNullable(buffer, limit.getOpenSlots());
+            putVarLong(buffer, Money.toMinor(limit.getMaxAllowableBid()));
+        }
+    }
+
+    private static ByteBuffer start(byte type) {
+        ByteBuffer buffer = BUFFER.get();
+        buffer.clear();
+        buffer.put(VERSION);
+        buffer.put(type);
+        return buffer;
+    }
+
+    private static byte[] finish(ByteBuffer buffer) {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static void putNullable(ByteBuffer buffer, Long value) {
+        putVarLong(buffer, value != null ? value + 1 : 0);
+    }
+
+    private static void putNullable(ByteBuffer buffer, Integer value) {
+        putVarLong(buffer, value != null ? value + 1L : 0);
+    }
+
+    private static Long toMinorOrNull(Double amount) {
+        return amount != null ? Long.valueOf(Money.toMinor(amount)) : null;
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7FL) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0;
+    }
+}
@@ -0,0 +1,10 @@
+package com.auction.cricket.event;
+
+/**
+ * A change in an auction that live clients are told about.
+ */
+public sealed interface AuctionEvent
+        permits BidPlacedEvent, PlayerUpdatedEvent, TeamUpdatedEvent, LotCountdownEvent {
+
+    Long auctionId();
+}
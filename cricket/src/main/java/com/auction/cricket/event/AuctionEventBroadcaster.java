@@ -0,0 +1,125 @@
+package com.auction.cricket.event;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.auction.cricket.dto.AuctionDeltaResponse;
+import com.auction.cricket.service.AuctionDeltaLog;
+import com.auction.cricket.service.AuctionDeltaLog.DeltaType;
+import com.auction.cricket.service.AuctionEventStream;
+import com.auction.cricket.service.OverlayStateService;
+import com.auction.cricket.service.WebSocketService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Relays domain events to WebSocket subscribers once the publishing
+ * transaction has committed. Sending happens on the broadcast executor so
+ * neither the transaction nor the bid book waits on the broker. In a cluster,
+ * events are also handed to the {@link ClusterEventRelay}, and events from
+ * other nodes come back in as {@link RemoteAuctionEvent}s for local delivery.
+ */
+@Component
+public class AuctionEventBroadcaster {
+    private static final Logger logger = LoggerFactory.getLogger(AuctionEventBroadcaster.class);
+
+    private final WebSocketService webSocketService;
+    private final AuctionDeltaLog deltaLog;
+    private final AuctionEventStream eventStream;
+    private final OverlayStateService overlayStateService;
+    private final ThreadPoolExecutor broadcastExecutor;
+    private final Optional<ClusterEventRelay> clusterRelay;
+    private final Timer publishLatency;
+
+    public AuctionEventBroadcaster(WebSocketService webSocketService, AuctionDeltaLog deltaLog,
+            AuctionEventStream eventStream, OverlayStateService overlayStateService,
+            @Qualifier("broadcastExecutor") ThreadPoolExecutor broadcastExecutor,
+            Optional<ClusterEventRelay> clusterRelay, MeterRegistry meterRegistry) {
+        this.webSocketService = webSocketService;
+        this.deltaLog = deltaLog;
+        this.eventStream = eventStream;
+        this.overlayStateService = overlayStateService;
+        this.broadcastExecutor = broadcastExecutor;
+        this.clusterRelay = clusterRelay;
+        this.publishLatency = Timer.builder("auction.broadcast.publish.latency")
+                .description("Time from commit to the message being handed to the broker")
+                .register(meterRegistry);
+        Gauge.builder("auction.broadcast.queue.depth", broadcastExecutor, executor -> executor.getQueue().size())
+                .description("Broadcasts waiting for the broadcast executor")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBidPlaced(BidPlacedEvent event) {
+        publish(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlayerUpdated(PlayerUpdatedEvent event) {
+        publish(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamUpdated(TeamUpdatedEvent event) {
+        publish(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLotCountdown(LotCountdownEvent event) {
+        publish(event);
+    }
+
+    @EventListener
+    public void onRemoteEvent(RemoteAuctionEvent remote) {
+        deliver(remote.event());
+    }
+
+    private void publish(AuctionEvent event) {
+        deliver(event);
+        clusterRelay.ifPresent(relay -> relay.publish(event));
+    }
+
+    private void deliver(AuctionEvent event) {
+        switch (event) {
+            case BidPlacedEvent bid -> dispatch(bid, DeltaType.BID, bid.bid(),
+                    () -> webSocketService.broadcastBid(bid.auctionId(), bid.bid()));
+            case PlayerUpdatedEvent player -> dispatch(player, DeltaType.PLAYER, player.playerId(),
+                    () -> webSocketService.broadcastPlayerUpdate(player.auctionId(), player.playerId()));
+            case TeamUpdatedEvent team -> dispatch(team, DeltaType.TEAM, team.teamId(),
+                    () -> webSocketService.broadcastTeamUpdate(team.auctionId(), team.teamId()));
+            case LotCountdownEvent lot -> dispatch(lot, DeltaType.LOT, lot.countdown(),
+                    () -> webSocketService.broadcastLotCountdown(lot.auctionId(), lot.countdown()));
+        }
+    }
+
+    private void dispatch(AuctionEvent event, DeltaType type, Object payload, Runnable send) {
+        Long auctionId = event.auctionId();
+        long committedAt = System.nanoTime();
+        broadcastExecutor.execute(() -> {
+            try {
+                // Folded here rather than on the publisher, which may be the bid book's own thread
+                overlayStateService.apply(event);
+                // Numbered here, on the single broadcast thread, so versions follow send order
+                AuctionDeltaResponse delta = deltaLog.append(auctionId, type, payload);
+                webSocketService.broadcastDelta(delta);
+                eventStream.publish(delta);
+                send.run();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to broadcast auction event", e);
+            } finally {
+                publishLatency.record(System.nanoTime() - committedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+}
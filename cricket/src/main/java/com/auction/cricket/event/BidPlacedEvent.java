@@ -0,0 +1,9 @@
+package com.auction.cricket.event;
+
+import com.auction.cricket.dto.BidResponse;
+
+/**
+ * Published when a bid has been accepted for an auction.
+ */
+public record BidPlacedEvent(Long auctionId, BidResponse bid) implements AuctionEvent {
+}
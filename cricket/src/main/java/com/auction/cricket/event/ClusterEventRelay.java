@@ -0,0 +1,10 @@
+package com.auction.cricket.event;
+
+/**
+ * Carries auction events committed on this node to the other nodes of the
+ * cluster, which hand them back as {@link RemoteAuctionEvent}s.
+ */
+public interface ClusterEventRelay {
+
+    void publish(AuctionEvent event);
+}
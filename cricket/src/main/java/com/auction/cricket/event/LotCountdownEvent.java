@@ -0,0 +1,9 @@
+package com.auction.cricket.event;
+
+import com.auction.cricket.dto.LotCountdownResponse;
+
+/**
+ * Published whenever a lot's countdown moves to a new phase.
+ */
+public record LotCountdownEvent(Long auctionId, LotCountdownResponse countdown) implements AuctionEvent {
+}
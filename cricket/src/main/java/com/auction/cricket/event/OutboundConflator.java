@@ -0,0 +1,188 @@
+package com.auction.cricket.event;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps slow WebSocket clients from falling ever further behind during a
+ * bidding war. Each session's backlog is the number of messages handed to it
+ * that have not yet been written to its socket. Once that passes the
+ * threshold, price updates carrying a {@value #KEY_HEADER} header are held
+ * back, and a newer update for the same key replaces the held one. Held
+ * updates go out once the backlog has drained to half the threshold.
+ * Messages without the header, and those marked {@value #TERMINAL_HEADER},
+ * are never held or dropped.
+ */
+@Component
+public class OutboundConflator implements ChannelInterceptor {
+
+    public static final String KEY_HEADER = "conflation-key";
+    public static final String TERMINAL_HEADER = "conflation-terminal";
+
+    private final boolean enabled;
+    private final int backlogThreshold;
+    private final Map<String, SessionBacklog> sessions = new ConcurrentHashMap<>();
+    private final Counter delivered;
+    private final Counter conflated;
+
+    public OutboundConflator(MeterRegistry meterRegistry,
+            @Value("${app.broadcast.conflation.enabled:true}") boolean enabled,
+            @Value("${app.broadcast.conflation.backlog-threshold:32}") int backlogThreshold) {
+        this.enabled = enabled;
+        this.backlogThreshold = Math.max(backlogThreshold, 2);
+        this.delivered = Counter.builder("auction.broadcast.outbound.delivered")
+                .description("Messages handed to WebSocket sessions")
+                .register(meterRegistry);
+        this.conflated = Counter.builder("auction.broadcast.outbound.conflated")
+                .description("Price updates dropped for slow sessions because a newer one replaced them")
+                .register(meterRegistry);
+        Gauge.builder("auction.broadcast.outbound.conflating.sessions", sessions,
+                        all -> all.values().stream().filter(SessionBacklog::isHolding).count())
+                .description("Sessions currently holding back price updates")
+                .register(meterRegistry);
+    }
+
+    /** Wraps each session so completed socket writes shrink its backlog. */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new WebSocketSessionDecorator(session) {
+                    @Override
+                    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+                        try {
+                            super.sendMessage(message);
+                        } finally {
+                            written(getId());
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null) {
+            return message;
+        }
+        SessionBacklog backlog = sessions.computeIfAbsent(sessionId, id -> new SessionBacklog());
+        String key = accessor.getMessageType() == SimpMessageType.MESSAGE
+                ? accessor.getFirstNativeHeader(KEY_HEADER) : null;
+        if (key != null) {
+            key = accessor.getSubscriptionId() + "|" + key;
+            boolean terminal = Boolean.parseBoolean(accessor.getFirstNativeHeader(TERMINAL_HEADER));
+            if (terminal) {
+                // Anything still held for this key is superseded by the final outcome
+                if (backlog.discard(key)) {
+                    conflated.increment();
+                }
+            } else if (backlog.queued.get() >= backlogThreshold) {
+                if (backlog.hold(key, message, channel)) {
+                    conflated.increment();
+                }
+                return null;
+            }
+        }
+        backlog.queued.incrementAndGet();
+        delivered.increment();
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            if (sessionId != null) {
+                written(sessionId);
+            }
+        }
+    }
+
+    private void written(String sessionId) {
+        SessionBacklog backlog = sessions.get(sessionId);
+        if (backlog == null) {
+            return;
+        }
+        // Frames sent outside the channel, such as STOMP errors, were never counted
+        int queued = backlog.queued.updateAndGet(count -> count > 0 ? count - 1 : 0);
+        if (queued <= backlogThreshold / 2 && backlog.isHolding()) {
+            for (HeldMessage held : backlog.release()) {
+                held.channel().send(held.message());
+            }
+        }
+    }
+
+    private record HeldMessage(Message<?> message, MessageChannel channel) {
+    }
+
+    private static final class SessionBacklog {
+        final AtomicInteger queued = new AtomicInteger();
+        private final Map<String, HeldMessage> held = new LinkedHashMap<>();
+        private volatile boolean holding;
+
+        boolean isHolding() {
+            return holding;
+        }
+
+        // Returns true when an older update for the key was replaced
+        synchronized boolean hold(String key, Message<?> message, MessageChannel channel) {
+            holding = true;
+            // Re-inserting moves the key to the end, so release order follows the latest update
+            boolean replaced = held.remove(key) != null;
+            held.put(key, new HeldMessage(message, channel));
+            return replaced;
+        }
+
+        synchronized boolean discard(String key) {
+            boolean discarded = held.remove(key) != null;
+            holding = !held.isEmpty();
+            return discarded;
+        }
+
+        synchronized List<HeldMessage> release() {
+            List<HeldMessage> released = new ArrayList<>(held.size());
+            for (Iterator<HeldMessage> it = held.values().iterator(); it.hasNext();) {
+                released.add(it.next());
+                it.remove();
+            }
+            holding = false;
+            return released;
+        }
+    }
+}
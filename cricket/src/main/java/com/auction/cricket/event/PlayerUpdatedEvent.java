@@ -0,0 +1,7 @@
+package com.auction.cricket.event;
+
+/**
+ * Published when a player's status, price or team changes.
+ */
+public record PlayerUpdatedEvent(Long auctionId, Long playerId) implements AuctionEvent {
+}
@@ -0,0 +1,421 @@
+package com.auction.cricket.event;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import com.auction.cricket.service.WebSocketService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fans auction events out across nodes through Postgres {@code NOTIFY}, one
+ * channel per auction. Events committed here are batched over a short window.
+ * Each batch goes out in a single round trip, with one notification per
+ * auction. A node only {@code LISTEN}s on auctions its own clients have
+ * subscribed to, on a connection of its own outside the pool since it is
+ * held for as long as the node runs. Every event carries its origin node and
+ * a per-node sequence number, assigned by the single sender thread so that it
+ * rises within each channel. Receivers drop their own events and any they
+ * have already seen on that channel from that origin, and forget origins they
+ * have not heard from for a while.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cluster.fanout", havingValue = "postgres")
+public class PostgresEventRelay implements ClusterEventRelay {
+    private static final Logger logger = LoggerFactory.getLogger(PostgresEventRelay.class);
+
+    static final String CHANNEL_PREFIX = "auction_events_";
+    // NOTIFY payloads must stay below 8000 bytes
+    static final int MAX_PAYLOAD_BYTES = 7_900;
+    private static final String NOTIFY_SQL = "SELECT pg_notify(c, p) FROM unnest(?::text[], ?::text[]) AS t(c, p)";
+
+    record Entry(long sequence, String type, JsonNode event) {
+    }
+
+    record Batch(String origin, List<Entry> events) {
+    }
+
+    record Outgoing(long sequence, AuctionEvent event) {
+    }
+
+    record Notification(String channel, String payload) {
+    }
+
+    private record Seen(long sequence, long heardAtNanos) {
+    }
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long batchWindowNanos;
+    private final int maxBatch;
+    private final int pollTimeoutMs;
+    private final long originIdleNanos;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final BlockingQueue<AuctionEvent> outgoing;
+    private final Set<Long> listening = ConcurrentHashMap.newKeySet();
+    private final Queue<Long> pendingListens = new ConcurrentLinkedQueue<>();
+    // Keyed by origin and channel. Only touched by the listener thread; ordered
+    // by when each was last heard from
+    private final Map<String, Seen> lastSeen = new LinkedHashMap<>();
+    private final Counter notificationsSent;
+    private final Counter eventsDropped;
+    private final Counter eventsRelayed;
+    private final Counter duplicates;
+
+    // Only touched by the sender thread
+    private long sequence;
+    private volatile boolean running;
+    private Thread sender;
+    private Thread listener;
+
+    public PostgresEventRelay(DataSourceProperties dataSourceProperties, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+            @Value("${app.cluster.notify.batch-window-ms:5}") long batchWindowMs,
+            @Value("${app.cluster.notify.max-batch:256}") int maxBatch,
+            @Value("${app.cluster.notify.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.cluster.listen.poll-ms:250}") int pollTimeoutMs,
+            @Value("${app.cluster.listen.origin-idle-ms:600000}") long originIdleMs) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(batchWindowMs);
+        this.maxBatch = Math.max(maxBatch, 1);
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.originIdleNanos = TimeUnit.MILLISECONDS.toNanos(originIdleMs);
+        this.outgoing = new ArrayBlockingQueue<>(queueCapacity);
+        this.notificationsSent = Counter.builder("auction.cluster.notify.sent")
+                .description("NOTIFY payloads sent to other nodes")
+                .register(meterRegistry);
+        this.eventsDropped = Counter.builder("auction.cluster.notify.dropped")
+                .description("Events not relayed because the outgoing queue was full or the send failed")
+                .register(meterRegistry);
+        this.eventsRelayed = Counter.builder("auction.cluster.events.relayed")
+                .description("Events received from other nodes and delivered locally")
+                .register(meterRegistry);
+        this.duplicates = Counter.builder("auction.cluster.events.duplicates")
+                .description("Events from other nodes dropped as already seen")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        sender = new Thread(this::sendLoop, "cluster-notify");
+        sender.setDaemon(true);
+        sender.start();
+        listener = new Thread(this::listenLoop, "cluster-listen");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        sender.interrupt();
+        sender.join(TimeUnit.SECONDS.toMillis(1));
+        listener.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(AuctionEvent event) {
+        // Called on the committing thread, so never wait for queue space
+        if (!outgoing.offer(event)) {
+            eventsDropped.increment();
+            logger.warn("Cluster notify queue full; event for auction {} not relayed", event.auctionId());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        Long auctionId = WebSocketService.auctionIdOf(
+                SimpMessageHeaderAccessor.getDestination(event.getMessage().getHeaders()));
+        if (auctionId != null && listening.add(auctionId)) {
+            pendingListens.add(auctionId);
+        }
+    }
+
+    private void sendLoop() {
+        while (running) {
+            List<Outgoing> batch = List.of();
+            try {
+                batch = nextBatch();
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                eventsDropped.increment(batch.size());
+                logger.warn("Failed to relay {} auction events to the cluster", batch.size(), e);
+            }
+        }
+    }
+
+    /**
+     * Waits up to a second for the next batch and numbers its events in queue
+     * order. Numbering here rather than in publish keeps sequences rising on
+     * every channel however the publishing threads interleave.
+     */
+    List<Outgoing> nextBatch() throws InterruptedException {
+        AuctionEvent first = outgoing.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<Outgoing> batch = new ArrayList<>(maxBatch);
+        batch.add(new Outgoing(++sequence, first));
+        long deadline = System.nanoTime() + batchWindowNanos;
+        while (batch.size() < maxBatch) {
+            AuctionEvent next = outgoing.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(new Outgoing(++sequence, next));
+        }
+        return batch;
+    }
+
+    private void send(List<Outgoing> batch) {
+        List<Notification> notifications = encode(batch);
+        if (notifications.isEmpty()) {
+            return;
+        }
+        String[] channels = notifications.stream().map(Notification::channel).toArray(String[]::new);
+        String[] payloads = notifications.stream().map(Notification::payload).toArray(String[]::new);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(NOTIFY_SQL)) {
+                statement.setArray(1, connection.createArrayOf("text", channels));
+                statement.setArray(2, connection.createArrayOf("text", payloads));
+                statement.execute();
+            }
+            return null;
+        });
+        notificationsSent.increment(notifications.size());
+    }
+
+    /**
+     * Groups a batch by auction and splits each auction's events over as many
+     * payloads as it takes to keep every one under the NOTIFY limit. An event
+     * too large for a payload of its own is dropped.
+     */
+    List<Notification> encode(List<Outgoing> batch) {
+        Map<Long, List<String>> entriesByAuction = new LinkedHashMap<>();
+        for (Outgoing item : batch) {
+            Entry entry = new Entry(item.sequence(), item.event().getClass().getSimpleName(),
+                    objectMapper.valueToTree(item.event()));
+            entriesByAuction.computeIfAbsent(item.event().auctionId(), id -> new ArrayList<>()).add(toJson(entry));
+        }
+
+        List<Notification> notifications = new ArrayList<>();
+        String prefix = "{\"origin\":\"" + nodeId + "\",\"events\":[";
+        int prefixBytes = utf8Length(prefix);
+        for (Map.Entry<Long, List<String>> auction : entriesByAuction.entrySet()) {
+            StringBuilder payload = new StringBuilder(prefix);
+            int payloadBytes = prefixBytes;
+            for (String entry : auction.getValue()) {
+                int entryBytes = utf8Length(entry);
+                if (prefixBytes + entryBytes + 2 > MAX_PAYLOAD_BYTES) {
+                    eventsDropped.increment();
+                    logger.warn("Auction {} event too large to relay ({} bytes)", auction.getKey(), entryBytes);
+                    continue;
+                }
+                if (payloadBytes + entryBytes + 3 > MAX_PAYLOAD_BYTES) {
+                    notifications.add(new Notification(CHANNEL_PREFIX + auction.getKey(),
+                            payload.append("]}").toString()));
+                    payload = new StringBuilder(prefix);
+                    payloadBytes = prefixBytes;
+                }
+                if (payloadBytes > prefixBytes) {
+                    payload.append(',');
+                    payloadBytes++;
+                }
+                payload.append(entry);
+                payloadBytes += entryBytes;
+            }
+            if (payloadBytes > prefixBytes) {
+                notifications.add(new Notification(CHANNEL_PREFIX + auction.getKey(), payload.append("]}").toString()));
+            }
+        }
+        return notifications;
+    }
+
+    private void listenLoop() {
+        Connection connection = null;
+        while (running) {
+            try {
+                if (connection == null) {
+                    // Not from the pool, which would lose a connection to it for good
+                    connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                            dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+                    connection.setAutoCommit(true);
+                    // A new connection starts with no LISTENs; restore all of them
+                    pendingListens.clear();
+                    for (Long auctionId : listening) {
+                        listen(connection, auctionId);
+                    }
+                }
+                Long auctionId;
+                while ((auctionId = pendingListens.poll()) != null) {
+                    listen(connection, auctionId);
+                }
+                PGNotification[] notifications = connection.unwrap(PGConnection.class)
+                        .getNotifications(pollTimeoutMs);
+                if (notifications != null) {
+                    for (PGNotification notification : notifications) {
+                        receive(notification.getName(), notification.getParameter(), System.nanoTime());
+                    }
+                }
+            } catch (SQLException e) {
+                logger.warn("Cluster listener connection failed; reconnecting", e);
+                close(connection);
+                connection = null;
+                sleepQuietly();
+            }
+        }
+        close(connection);
+    }
+
+    private static void listen(Connection connection, Long auctionId) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            // Channel names cannot be bound as parameters; the id is a number
+            statement.execute("LISTEN " + CHANNEL_PREFIX + auctionId);
+        }
+    }
+
+    void receive(String channel, String payload, long nowNanos) {
+        expireIdleOrigins(nowNanos);
+        Batch batch;
+        try {
+            batch = objectMapper.readValue(payload, Batch.class);
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring malformed cluster notification", e);
+            return;
+        }
+        if (nodeId.equals(batch.origin())) {
+            return;
+        }
+        // One sender batch spreads its sequence numbers over several channels
+        String stream = batch.origin() + '/' + channel;
+        for (Entry entry : batch.events()) {
+            Seen last = lastSeen.remove(stream);
+            if (last != null && entry.sequence() <= last.sequence()) {
+                lastSeen.put(stream, new Seen(last.sequence(), nowNanos));
+                duplicates.increment();
+                continue;
+            }
+            lastSeen.put(stream, new Seen(entry.sequence(), nowNanos));
+            AuctionEvent event = toEvent(entry);
+            if (event != null) {
+                eventsRelayed.increment();
+                eventPublisher.publishEvent(new RemoteAuctionEvent(event));
+            }
+        }
+    }
+
+    /** Drops origins not heard from within the idle window, such as nodes that have been replaced. */
+    private void expireIdleOrigins(long nowNanos) {
+        Iterator<Seen> origins = lastSeen.values().iterator();
+        while (origins.hasNext() && nowNanos - origins.next().heardAtNanos() > originIdleNanos) {
+            origins.remove();
+        }
+    }
+
+    int knownStreams() {
+        return lastSeen.size();
+    }
+
+    private AuctionEvent toEvent(Entry entry) {
+        Class<? extends AuctionEvent> type = switch (entry.type()) {
+            case "BidPlacedEvent" -> BidPlacedEvent.class;
+            case "PlayerUpdatedEvent" -> PlayerUpdatedEvent.class;
+            case "TeamUpdatedEvent" -> TeamUpdatedEvent.class;
+            case "LotCountdownEvent" -> LotCountdownEvent.class;
+            default -> null;
+        };
+        if (type == null) {
+            logger.warn("Ignoring cluster event of unknown type {}", entry.type());
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(entry.event(), type);
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring unreadable cluster event of type {}", entry.type(), e);
+            return null;
+        }
+    }
+
+    private String toJson(Entry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize auction event", e);
+        }
+    }
+
+    private static int utf8Length(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void close(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.debug("Error closing cluster listener connection", e);
+        }
+    }
+
+    private static void sleepQuietly() {
+        try {
+            TimeUnit.SECONDS.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
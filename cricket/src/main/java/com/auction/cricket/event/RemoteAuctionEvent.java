@@ -0,0 +1,8 @@
+package com.auction.cricket.event;
+
+/**
+ * An auction event that happened on another node, relayed so this node can
+ * deliver it to its own clients. It is never relayed onwards.
+ */
+public record RemoteAuctionEvent(AuctionEvent event) {
+}
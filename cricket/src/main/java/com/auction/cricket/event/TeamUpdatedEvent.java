@@ -0,0 +1,7 @@
+package com.auction.cricket.event;
+
+/**
+ * Published when a team's budget or squad changes.
+ */
+public record TeamUpdatedEvent(Long auctionId, Long teamId) implements AuctionEvent {
+}
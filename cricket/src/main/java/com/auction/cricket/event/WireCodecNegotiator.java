@@ -0,0 +1,86 @@
+package com.auction.cricket.event;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+/**
+ * Lets clients on the plain WebSocket endpoint opt into
+ * {@link AuctionBinaryCodec} by sending an {@value #CODEC_HEADER} header of
+ * {@value AuctionBinaryCodec#CODEC_NAME} with STOMP CONNECT. Broadcasts that
+ * carry a pre-encoded binary form are switched to it for those sessions only.
+ * Everyone else, and every other message, stays JSON. SockJS sessions
+ * cannot carry binary frames and always get JSON.
+ */
+@Component
+public class WireCodecNegotiator implements ChannelInterceptor {
+
+    public static final String CODEC_HEADER = "auction-codec";
+    /** Message header holding the binary encoding of a broadcast's payload. */
+    public static final String BINARY_PAYLOAD_HEADER = "auctionBinaryPayload";
+    private static final String NATIVE_SESSION_ATTRIBUTE = "auctionNativeWebSocket";
+
+    private final Set<String> binarySessions = ConcurrentHashMap.newKeySet();
+
+    /** Whether broadcasts need a binary form at all. */
+    public boolean hasBinarySessions() {
+        return !binarySessions.isEmpty();
+    }
+
+    /** Marks sessions opened on the plain WebSocket endpoint. */
+    public HandshakeInterceptor nativeEndpointMarker() {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                    WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                attributes.put(NATIVE_SESSION_ATTRIBUTE, Boolean.TRUE);
+                return true;
+            }
+
+            @Override
+            public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                    WebSocketHandler wsHandler, Exception exception) {
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        SimpMessageType type = accessor.getMessageType();
+        String sessionId = accessor.getSessionId();
+        if (type == SimpMessageType.CONNECT) {
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            if (attributes != null && attributes.containsKey(NATIVE_SESSION_ATTRIBUTE)
+                    && AuctionBinaryCodec.CODEC_NAME.equals(accessor.getFirstNativeHeader(CODEC_HEADER))) {
+                binarySessions.add(sessionId);
+            }
+        } else if (type == SimpMessageType.DISCONNECT) {
+            binarySessions.remove(sessionId);
+        } else if (type == SimpMessageType.MESSAGE) {
+            if (accessor.getHeader(BINARY_PAYLOAD_HEADER) instanceof byte[] binary
+                    && binarySessions.contains(sessionId)) {
+                SimpMessageHeaderAccessor binaryAccessor = SimpMessageHeaderAccessor.wrap(message);
+                binaryAccessor.removeHeader(BINARY_PAYLOAD_HEADER);
+                // Octet-stream is what makes the STOMP handler send a binary WebSocket frame
+                binaryAccessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+                binaryAccessor.setNativeHeader(CODEC_HEADER, AuctionBinaryCodec.CODEC_NAME);
+                return MessageBuilder.createMessage(binary, binaryAccessor.getMessageHeaders());
+            }
+        }
+        return message;
+    }
+}
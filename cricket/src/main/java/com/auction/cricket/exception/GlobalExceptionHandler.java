@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -79,6 +80,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, WebRequest request) {
+        logger.warn("Concurrent modification: {}", ex.getMessage());
+        return new ResponseEntity<>(
+                baseBody("Conflict", "The record was changed by another request. Please retry.", HttpStatus.CONFLICT,
+                        request),
+                HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(com.auction.cricket.exception.InvalidFileException.class)
     public ResponseEntity<?> handleInvalidFile(com.auction.cricket.exception.InvalidFileException ex, WebRequest request) {
         return new ResponseEntity<>(
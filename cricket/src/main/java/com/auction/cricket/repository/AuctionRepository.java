@@ -2,6 +2,7 @@ package com.auction.cricket.repository;
 
 import com.auction.cricket.entity.Auction;
 import com.auction.cricket.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,16 +14,38 @@ import java.util.List;
 
 @Repository
 public interface AuctionRepository extends JpaRepository<Auction, Long> {
+    String SUMMARY_SELECT = "SELECT a.id AS id, a.name AS name, a.logoUrl AS logoUrl, a.auctionDate AS auctionDate, "
+            + "(SELECT COUNT(t) FROM Team t WHERE t.auction = a) AS teamCount, "
+            + "(SELECT COUNT(p) FROM Player p WHERE p.auction = a) AS playerCount, "
+            + "(SELECT COUNT(p) FROM Player p WHERE p.auction = a "
+            + "AND p.status = com.auction.cricket.entity.PlayerStatus.SOLD) AS soldCount "
+            + "FROM Auction a ";
+
     List<Auction> findByCreatedBy(User user);
+
+    @Query("SELECT a.id FROM Auction a WHERE a.createdBy.username = :username")
+    List<Long> findIdsByCreatedByUsername(@Param("username") String username);
+
+    boolean existsByIdAndCreatedByUsername(Long id, String username);
     
-    @Query("SELECT a FROM Auction a WHERE a.auctionDate > :now AND a.isActive = true")
-    List<Auction> findUpcomingAuctions(LocalDateTime now);
-    
-    @Query("SELECT a FROM Auction a WHERE a.auctionDate <= :now AND a.auctionDate > :twoDaysAgo AND a.isActive = true")
-    List<Auction> findRecentAuctions(LocalDateTime now, LocalDateTime twoDaysAgo);
-    
-    @Query("SELECT a FROM Auction a WHERE a.auctionDate <= :now AND a.isActive = true")
-    List<Auction> findPastAuctions(LocalDateTime now);
+    // Keyset pages over (auctionDate, id), resuming after the last row of the previous page
+    @Query(SUMMARY_SELECT + "WHERE a.isActive = true AND a.auctionDate > :now "
+            + "AND (a.auctionDate > :afterDate OR (a.auctionDate = :afterDate AND a.id > :afterId)) "
+            + "ORDER BY a.auctionDate ASC, a.id ASC")
+    List<AuctionSummaryView> findUpcomingSummaries(@Param("now") LocalDateTime now,
+            @Param("afterDate") LocalDateTime afterDate, @Param("afterId") Long afterId, Pageable page);
+
+    @Query(SUMMARY_SELECT + "WHERE a.isActive = true AND a.auctionDate > :since "
+            + "AND (a.auctionDate < :beforeDate OR (a.auctionDate = :beforeDate AND a.id < :beforeId)) "
+            + "ORDER BY a.auctionDate DESC, a.id DESC")
+    List<AuctionSummaryView> findRecentSummaries(@Param("since") LocalDateTime since,
+            @Param("beforeDate") LocalDateTime beforeDate, @Param("beforeId") Long beforeId, Pageable page);
+
+    @Query(SUMMARY_SELECT + "WHERE a.isActive = true "
+            + "AND (a.auctionDate < :beforeDate OR (a.auctionDate = :beforeDate AND a.id < :beforeId)) "
+            + "ORDER BY a.auctionDate DESC, a.id DESC")
+    List<AuctionSummaryView> findPastSummaries(@Param("beforeDate") LocalDateTime beforeDate,
+            @Param("beforeId") Long beforeId, Pageable page);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM Auction a WHERE a.id = :id")
@@ -0,0 +1,22 @@
+package com.auction.cricket.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns an auction listing shows, with roster sizes counted in the database.
+ */
+public interface AuctionSummaryView {
+    Long getId();
+
+    String getName();
+
+    String getLogoUrl();
+
+    LocalDateTime getAuctionDate();
+
+    long getTeamCount();
+
+    long getPlayerCount();
+
+    long getSoldCount();
+}
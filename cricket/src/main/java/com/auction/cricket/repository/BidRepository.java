@@ -3,6 +3,8 @@ package com.auction.cricket.repository;
 import com.auction.cricket.entity.Bid;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,7 +17,11 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     List<Bid> findByTeamId(Long teamId);
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     void deleteByTeamId(Long teamId);
-    Bid findTopByPlayerIdOrderByAmountDesc(Long playerId);
+    @Query("select coalesce(max(b.sequence), 0) from Bid b where b.player.auction.id = :auctionId")
+    long findMaxSequenceByAuctionId(@Param("auctionId") Long auctionId);
+    @Query("select b.sequence from Bid b where b.player.auction.id = :auctionId and b.sequence between :from and :to")
+    List<Long> findSequencesByAuctionIdBetween(@Param("auctionId") Long auctionId, @Param("from") long from,
+            @Param("to") long to);
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     void deleteByPlayerAuctionId(Long auctionId);
     @Modifying(clearAutomatically = true, flushAutomatically = true)
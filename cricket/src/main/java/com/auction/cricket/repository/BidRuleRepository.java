@@ -5,11 +5,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BidRuleRepository extends JpaRepository<BidRule, Long> {
     List<BidRule> findByAuctionIdOrderByThresholdAmountAsc(Long auctionId);
+
+    List<BidRule> findByAuctionIdIn(Collection<Long> auctionIds);
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     void deleteByAuctionId(Long auctionId);
 }
@@ -6,11 +6,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     List<Category> findByAuction(Auction auction);
+
+    List<Category> findByAuctionIdIn(Collection<Long> auctionIds);
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     void deleteByAuctionId(Long auctionId);
 }
@@ -6,28 +6,70 @@ import com.auction.cricket.entity.Team;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, JpaSpecificationExecutor<Player> {
+    String ROW_SELECT = "select new com.auction.cricket.repository.PlayerRow(p.id, p.auction.id, p.name, p.age, "
+            + "p.role, p.mobileNumber, t.name, p.status, p.currentPrice, p.photoUrl, p.isIcon) "
+            + "from Player p left join p.team t ";
+
     List<Player> findByTeamId(Long teamId);
     List<Player> findByRole(String role);
     List<Player> findByTeamIsNull();
     List<Player> findByTeam(Team team);
     List<Player> findByAuction(Auction auction);
+    List<Player> findByAuctionId(Long auctionId);
+
+    @Query(ROW_SELECT + "where p.auction.id = :auctionId order by p.id")
+    List<PlayerRow> findRowsByAuctionId(@Param("auctionId") Long auctionId);
+
+    @Query(ROW_SELECT + "where p.auction.id = :auctionId and p.status = :status order by p.id")
+    List<PlayerRow> findRowsByAuctionIdAndStatus(@Param("auctionId") Long auctionId,
+            @Param("status") com.auction.cricket.entity.PlayerStatus status);
+
+    @Query(ROW_SELECT + "where p.auction.id = :auctionId and t.id = :teamId order by p.id")
+    List<PlayerRow> findRowsByAuctionIdAndTeamId(@Param("auctionId") Long auctionId, @Param("teamId") Long teamId);
+
+    @Query(ROW_SELECT + "where p.auction.id in :auctionIds order by p.id")
+    List<PlayerRow> findRowsByAuctionIdIn(@Param("auctionIds") Collection<Long> auctionIds);
+
+    @Query("select p.auction.id as auctionId, p.team.id as teamId, p.role as role, count(p) as playersCount, "
+            + "coalesce(sum(case when p.status = com.auction.cricket.entity.PlayerStatus.SOLD then p.currentPrice else 0 end), 0) as soldTotal "
+            + "from Player p where p.auction.id in :auctionIds and p.team is not null "
+            + "group by p.auction.id, p.team.id, p.role")
+    List<TeamRoleStats> findTeamRoleStatsByAuctionIdIn(@Param("auctionIds") Collection<Long> auctionIds);
+
     List<Player> findByAuctionAndTeamIsNull(Auction auction);
     List<Player> findByAuctionAndTeam(Auction auction, Team team);
     List<Player> findByStatus(com.auction.cricket.entity.PlayerStatus status);
     List<Player> findByAuctionAndStatus(Auction auction, com.auction.cricket.entity.PlayerStatus status);
     long countByAuction(Auction auction);
 
-    long countByAuctionAndTeam(Auction auction, Team team);
+    @Query("select p.auction.id from Player p where p.id = :playerId")
+    Optional<Long> findAuctionIdById(@Param("playerId") Long playerId);
+
+    @Query("select p from Player p left join fetch p.currentBid b left join fetch b.team where p.auction.id = :auctionId")
+    List<Player> findByAuctionIdWithCurrentBid(@Param("auctionId") Long auctionId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Player p set p.currentBid = null where p.currentBid.id in (select b.id from Bid b where b.team.id = :teamId)")
+    int clearCurrentBidsByTeamId(@Param("teamId") Long teamId);
+
+    @Query("select coalesce(max(p.closedSequence), 0) from Player p where p.auction.id = :auctionId")
+    long findMaxClosedSequenceByAuctionId(@Param("auctionId") Long auctionId);
+
+    @Query("select p.closedSequence from Player p where p.auction.id = :auctionId "
+            + "and p.closedSequence between :from and :to")
+    List<Long> findClosedSequencesByAuctionIdBetween(@Param("auctionId") Long auctionId, @Param("from") long from,
+            @Param("to") long to);
 
-    @Query("select coalesce(sum(p.currentPrice), 0) from Player p where p.auction = :auction and p.team = :team and p.status = com.auction.cricket.entity.PlayerStatus.SOLD")
-    Double sumSoldPriceByAuctionAndTeam(@Param("auction") Auction auction, @Param("team") Team team);
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     void deleteByAuctionId(Long auctionId);
 } 
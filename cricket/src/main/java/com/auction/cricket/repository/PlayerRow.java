@@ -0,0 +1,11 @@
+package com.auction.cricket.repository;
+
+import com.auction.cricket.entity.PlayerStatus;
+
+/**
+ * The columns a player listing shows, with the team's name joined in. Read
+ * straight into this record, so no Player or Team entities are loaded.
+ */
+public record PlayerRow(Long id, Long auctionId, String name, Integer age, String role, String mobileNumber,
+        String teamName, PlayerStatus status, Double currentPrice, String photoUrl, Boolean isIcon) {
+}
@@ -0,0 +1,87 @@
+package com.auction.cricket.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.auction.cricket.entity.Player;
+import com.auction.cricket.entity.PlayerStatus;
+
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+
+/**
+ * Filters for player listings. Each returns {@code null} when its argument is
+ * absent, which {@link Specification#where} treats as "no restriction".
+ */
+public final class PlayerSpecifications {
+
+    private PlayerSpecifications() {
+    }
+
+    public static Specification<Player> inAuction(Long auctionId) {
+        return (root, query, cb) -> cb.equal(root.get("auction").get("id"), auctionId);
+    }
+
+    public static Specification<Player> hasStatus(PlayerStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Player> hasRole(String role) {
+        return role == null || role.isBlank() ? null
+                : (root, query, cb) -> cb.equal(cb.lower(root.get("role")), role.trim().toLowerCase());
+    }
+
+    public static Specification<Player> isIcon(Boolean icon) {
+        return icon == null ? null : (root, query, cb) -> cb.equal(root.get("isIcon"), icon);
+    }
+
+    public static Specification<Player> inTeam(Long teamId) {
+        return teamId == null ? null : (root, query, cb) -> cb.equal(root.get("team").get("id"), teamId);
+    }
+
+    public static Specification<Player> nameStartsWith(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        String pattern = prefix.trim().toLowerCase()
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, '\\');
+    }
+
+    public static Specification<Player> priceBetween(Double min, Double max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<Double> price = root.get("currentPrice");
+            if (min == null) {
+                return cb.le(price, max);
+            }
+            return max == null ? cb.ge(price, min) : cb.between(price, min, max);
+        };
+    }
+
+    /**
+     * Rows strictly after ({@code value}, {@code id}) in the order
+     * {@code attribute} then id, both ascending or both descending.
+     */
+    public static <T extends Comparable<? super T>> Specification<Player> after(String attribute,
+            boolean descending, T value, Long id) {
+        return (root, query, cb) -> {
+            Path<T> key = root.get(attribute);
+            Path<Long> rowId = root.get("id");
+            return descending
+                    ? cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(rowId, id)))
+                    : cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(rowId, id)));
+        };
+    }
+
+    /** Loads each player's team in the same query; skipped for count queries. */
+    public static Specification<Player> fetchTeam() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("team", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
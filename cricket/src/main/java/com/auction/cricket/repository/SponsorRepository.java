@@ -1,12 +1,15 @@
 package com.auction.cricket.repository;
 
 import com.auction.cricket.entity.Sponsor;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SponsorRepository extends JpaRepository<Sponsor, Long> {
+    List<Sponsor> findByAuctionIdOrderByIdAsc(Long auctionId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     void deleteByAuctionId(Long auctionId);
 }
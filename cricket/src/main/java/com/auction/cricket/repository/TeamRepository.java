@@ -1,10 +1,13 @@
 package com.auction.cricket.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.auction.cricket.entity.Auction;
@@ -12,12 +15,31 @@ import com.auction.cricket.entity.Team;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
+    String ROW_SELECT = "select new com.auction.cricket.repository.TeamRow(t.id, a.id, a.name, t.name, "
+            + "t.budgetAmount, t.remainingBudget, t.isActive, t.logoUrl) from Team t join t.auction a ";
+
     Optional<Team> findByName(String name);
 
     boolean existsByName(String name);
 
     List<Team> findByAuction(Auction auction);
 
+    List<Team> findByAuctionId(Long auctionId);
+
+    @Query(ROW_SELECT + "order by t.id")
+    List<TeamRow> findAllRows();
+
+    @Query(ROW_SELECT + "where t.id = :id")
+    Optional<TeamRow> findRowById(@Param("id") Long id);
+
+    @Query(ROW_SELECT + "where a.id = :auctionId order by t.id")
+    List<TeamRow> findRowsByAuctionId(@Param("auctionId") Long auctionId);
+
+    @Query(ROW_SELECT + "where a.id in :auctionIds order by t.id")
+    List<TeamRow> findRowsByAuctionIdIn(@Param("auctionIds") Collection<Long> auctionIds);
+
+    boolean existsByIdAndAuctionId(Long id, Long auctionId);
+
     long countByAuction(Auction auction);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
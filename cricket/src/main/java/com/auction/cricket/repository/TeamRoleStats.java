@@ -0,0 +1,16 @@
+package com.auction.cricket.repository;
+
+/**
+ * Players a team holds in one role and what the sold ones cost.
+ */
+public interface TeamRoleStats {
+    Long getAuctionId();
+
+    Long getTeamId();
+
+    String getRole();
+
+    long getPlayersCount();
+
+    Double getSoldTotal();
+}
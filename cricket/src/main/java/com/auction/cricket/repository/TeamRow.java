@@ -0,0 +1,9 @@
+package com.auction.cricket.repository;
+
+/**
+ * The columns a team listing shows, with the auction's name joined in. Read
+ * straight into this record, so no Team or Auction entities are loaded.
+ */
+public record TeamRow(Long id, Long auctionId, String auctionName, String name, Double budgetAmount,
+        Double remainingBudget, Boolean isActive, String logoUrl) {
+}
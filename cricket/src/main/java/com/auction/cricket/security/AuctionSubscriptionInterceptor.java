@@ -0,0 +1,73 @@
+package com.auction.cricket.security;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import com.auction.cricket.exception.ForbiddenException;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.service.WebSocketService;
+
+/**
+ * Only lets clients subscribe to per-auction topics of auctions that exist.
+ * Any other broker destination, including the old global {@code /topic/bids},
+ * is refused with a STOMP ERROR frame. {@code /app} subscriptions are
+ * request-reply calls answered by message handlers and pass through.
+ * Auctions seen to exist are remembered so repeat subscriptions skip the
+ * database.
+ */
+@Component
+public class AuctionSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final String APPLICATION_PREFIX = "/app/";
+    private static final Pattern AUCTION_TOPIC = Pattern.compile(
+            Pattern.quote(WebSocketService.AUCTION_TOPIC_PREFIX) + "(\\d+)/([a-z-]+)");
+    private static final Set<String> CHANNELS = Set.of(
+            WebSocketService.BIDS, WebSocketService.PLAYERS, WebSocketService.TEAMS, WebSocketService.LOTS,
+            WebSocketService.DELTAS, WebSocketService.OVERLAY,
+            WebSocketService.PRESENCE);
+
+    private final AuctionRepository auctionRepository;
+    private final Set<Long> knownAuctions = ConcurrentHashMap.newKeySet();
+
+    public AuctionSubscriptionInterceptor(AuctionRepository auctionRepository) {
+        this.auctionRepository = auctionRepository;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (destination != null && destination.startsWith(APPLICATION_PREFIX)) {
+            return message;
+        }
+        Matcher matcher = destination != null ? AUCTION_TOPIC.matcher(destination) : null;
+        if (matcher == null || !matcher.matches() || !CHANNELS.contains(matcher.group(2))) {
+            throw new ForbiddenException("Subscription to " + destination + " is not allowed");
+        }
+        Long auctionId = Long.valueOf(matcher.group(1));
+        if (!knownAuctions.contains(auctionId)) {
+            if (!auctionRepository.existsById(auctionId)) {
+                throw new ForbiddenException("Auction not found with id: " + auctionId);
+            }
+            knownAuctions.add(auctionId);
+        }
+        return message;
+    }
+
+    public void forget(Long auctionId) {
+        knownAuctions.remove(auctionId);
+    }
+}
@@ -3,6 +3,7 @@ package com.auction.cricket.security;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -44,6 +45,10 @@ public class SecurityConfig {
                 .requestMatchers("/api/proxy/**").permitAll()
                 .requestMatchers("/uploads/**").permitAll()
                 .requestMatchers("/ws/**").permitAll()
+                .requestMatchers("/ws-native").permitAll()
+                // Read-only spectator and overlay feed
+                .requestMatchers(HttpMethod.GET, "/api/auctions/*/events").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/auctions/*/overlay").permitAll()
                 .requestMatchers("/api/auctions/**").authenticated()
                 .requestMatchers("/api/teams/**").authenticated()
                 .requestMatchers("/api/players/**").authenticated()
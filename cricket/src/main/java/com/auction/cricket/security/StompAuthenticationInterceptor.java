@@ -0,0 +1,129 @@
+package com.auction.cricket.security;
+
+import java.security.Principal;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import com.auction.cricket.exception.ForbiddenException;
+import com.auction.cricket.repository.AuctionRepository;
+
+/**
+ * Validates the JWT in the {@code Authorization} header of a STOMP CONNECT
+ * frame once and attaches a {@link StompPrincipal} to the session. Sessions
+ * without a token stay anonymous and may only subscribe; every SEND needs an
+ * authenticated session whose token has not expired.
+ */
+@Component
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final UserDetailsService userDetailsService;
+    private final AuctionRepository auctionRepository;
+    private final long notOrganizerCacheMs;
+
+    public StompAuthenticationInterceptor(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+            AuctionRepository auctionRepository,
+            @Value("${app.websocket.not-organizer-cache-ms:30000}") long notOrganizerCacheMs) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.auctionRepository = auctionRepository;
+        this.notOrganizerCacheMs = notOrganizerCacheMs;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            String header = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+            if (header != null) {
+                accessor.setUser(authenticate(header));
+            }
+        } else if (accessor.getCommand() == StompCommand.SEND) {
+            requireAuthenticated(accessor.getUser());
+        }
+        return message;
+    }
+
+    /**
+     * Checks that the session's user organizes the auction. Auctions created
+     * after the session connected cost one lookup and are then cached too, as
+     * are auctions the user does not organize, for a shorter while.
+     */
+    public void requireOrganizer(Principal user, Long auctionId) {
+        if (!organizes(requireAuthenticated(user), auctionId)) {
+            throw new ForbiddenException("You are not authorized to bid in auction " + auctionId);
+        }
+    }
+
+    public boolean isOrganizer(Principal user, Long auctionId) {
+        return user instanceof StompPrincipal principal && !principal.isExpired(System.currentTimeMillis())
+                && organizes(principal, auctionId);
+    }
+
+    private boolean organizes(StompPrincipal principal, Long auctionId) {
+        if (principal.organizes(auctionId)) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (principal.knownNotToOrganize(auctionId, now)) {
+            return false;
+        }
+        if (!auctionRepository.existsByIdAndCreatedByUsername(auctionId, principal.getName())) {
+            // An id with no auction behind it yet may still become one of the user's
+            principal.addNotOrganized(auctionId, now + notOrganizerCacheMs);
+            return false;
+        }
+        principal.addOrganized(auctionId);
+        return true;
+    }
+
+    private StompPrincipal authenticate(String header) {
+        if (!header.startsWith(BEARER_PREFIX)) {
+            throw new ForbiddenException("Unsupported authorization scheme");
+        }
+        String token = header.substring(BEARER_PREFIX.length());
+        String username = jwtUtil.extractUsername(token);
+        if (username == null) {
+            throw new ForbiddenException("Invalid token");
+        }
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            throw new ForbiddenException("Invalid token");
+        }
+        Date expiration = jwtUtil.extractExpiration(token);
+        if (!jwtUtil.validateToken(token, userDetails) || expiration == null) {
+            throw new ForbiddenException("Invalid token");
+        }
+        return new StompPrincipal(username, expiration.getTime(),
+                auctionRepository.findIdsByCreatedByUsername(username));
+    }
+
+    private static StompPrincipal requireAuthenticated(Principal user) {
+        if (!(user instanceof StompPrincipal principal)) {
+            throw new ForbiddenException("Authentication required");
+        }
+        if (principal.isExpired(System.currentTimeMillis())) {
+            throw new ForbiddenException("Session token has expired; reconnect with a new token");
+        }
+        return principal;
+    }
+}
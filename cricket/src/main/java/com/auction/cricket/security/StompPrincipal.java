@@ -0,0 +1,61 @@
+package com.auction.cricket.security;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The user behind an authenticated STOMP session, resolved once at CONNECT.
+ * Holds the token's expiry, the auctions the user organizes and, for a while,
+ * those it was found not to, so that later frames can be authorized without
+ * parsing the token or querying the database.
+ */
+public final class StompPrincipal implements Principal {
+
+    private final String username;
+    private final long expiresAt;
+    private final Set<Long> organizedAuctions = ConcurrentHashMap.newKeySet();
+    // Auction id to the time until which the user is known not to organize it
+    private final Map<Long, Long> notOrganizedUntil = new ConcurrentHashMap<>();
+
+    StompPrincipal(String username, long expiresAt, Collection<Long> organizedAuctions) {
+        this.username = username;
+        this.expiresAt = expiresAt;
+        this.organizedAuctions.addAll(organizedAuctions);
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+
+    boolean organizes(Long auctionId) {
+        return organizedAuctions.contains(auctionId);
+    }
+
+    void addOrganized(Long auctionId) {
+        organizedAuctions.add(auctionId);
+    }
+
+    boolean knownNotToOrganize(Long auctionId, long now) {
+        Long until = notOrganizedUntil.get(auctionId);
+        if (until == null) {
+            return false;
+        }
+        if (now < until) {
+            return true;
+        }
+        notOrganizedUntil.remove(auctionId, until);
+        return false;
+    }
+
+    void addNotOrganized(Long auctionId, long until) {
+        notOrganizedUntil.put(auctionId, until);
+    }
+}
@@ -0,0 +1,17 @@
+package com.auction.cricket.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * A bid accepted by an in-memory {@link AuctionBidBook}, waiting to be written
+ * to the database by {@link BidWriteBehindService}. The amount is in minor
+ * units.
+ */
+public record AcceptedBid(
+        Long auctionId,
+        Long playerId,
+        Long teamId,
+        long amount,
+        LocalDateTime timestamp,
+        long sequence) implements BidBookEntry {
+}
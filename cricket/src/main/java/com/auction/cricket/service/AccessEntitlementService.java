@@ -5,7 +5,11 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -112,6 +116,33 @@ public class AccessEntitlementService {
         return hasActiveFullAccess(user.getId()) || (auctionId != null && hasActiveAuctionAccess(user.getId(), auctionId));
     }
 
+    /** The auctions among {@code auctionIds} the user has premium access to, from one entitlement lookup. */
+    @Transactional(readOnly = true)
+    public Set<Long> premiumAuctionIds(String username, Collection<Long> auctionIds) {
+        User user = username != null ? userRepository.findByUsername(username).orElse(null) : null;
+        if (user == null || auctionIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (user.getRoles() != null && user.getRoles().contains(Role.ADMIN)) {
+            return new HashSet<>(auctionIds);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> granted = new HashSet<>();
+        for (AccessEntitlement e : accessEntitlementRepository.findByUserIdWithAuction(user.getId())) {
+            if (!isActive(e, now)) {
+                continue;
+            }
+            if (e.getAccessType() != AccessType.PER_AUCTION) {
+                return new HashSet<>(auctionIds);
+            }
+            if (e.getAuction() != null) {
+                granted.add(e.getAuction().getId());
+            }
+        }
+        granted.retainAll(auctionIds);
+        return granted;
+    }
+
     @Transactional(readOnly = true)
     public void requirePremiumAccess(String username, Long auctionId, String featureName) {
         if (!hasPremiumAccess(username, auctionId)) {
@@ -0,0 +1,136 @@
+package com.auction.cricket.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.auction.cricket.dto.AuctionResponse;
+import com.auction.cricket.dto.BidRuleResponse;
+import com.auction.cricket.dto.CategoryResponse;
+import com.auction.cricket.dto.PlayerResponse;
+import com.auction.cricket.dto.TeamResponse;
+import com.auction.cricket.entity.Auction;
+import com.auction.cricket.entity.BidRule;
+import com.auction.cricket.entity.Category;
+import com.auction.cricket.repository.BidRuleRepository;
+import com.auction.cricket.repository.CategoryRepository;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.PlayerRow;
+import com.auction.cricket.repository.TeamRepository;
+import com.auction.cricket.repository.TeamRow;
+
+/**
+ * Builds {@link AuctionResponse}s for a batch of auctions with a fixed number
+ * of queries: one each for teams, team statistics (none when cached),
+ * players, categories, bid rules and the caller's entitlements, however many
+ * auctions are in the batch. Callers must run inside a transaction.
+ */
+@Component
+public class AuctionAggregateLoader {
+
+    private final TeamRepository teamRepository;
+    private final TeamStatsCache teamStatsCache;
+    private final PlayerRepository playerRepository;
+    private final CategoryRepository categoryRepository;
+    private final BidRuleRepository bidRuleRepository;
+    private final AccessEntitlementService accessEntitlementService;
+    private final TeamService teamService;
+    private final PlayerService playerService;
+    private final CategoryService categoryService;
+
+    public AuctionAggregateLoader(TeamRepository teamRepository, TeamStatsCache teamStatsCache,
+            PlayerRepository playerRepository,
+            CategoryRepository categoryRepository, BidRuleRepository bidRuleRepository,
+            AccessEntitlementService accessEntitlementService, TeamService teamService,
+            PlayerService playerService, CategoryService categoryService) {
+        this.teamRepository = teamRepository;
+        this.teamStatsCache = teamStatsCache;
+        this.playerRepository = playerRepository;
+        this.categoryRepository = categoryRepository;
+        this.bidRuleRepository = bidRuleRepository;
+        this.accessEntitlementService = accessEntitlementService;
+        this.teamService = teamService;
+        this.playerService = playerService;
+        this.categoryService = categoryService;
+    }
+
+    public AuctionResponse load(Auction auction, String username) {
+        return load(List.of(auction), username).get(0);
+    }
+
+    /** Responses in the order of {@code auctions}; bid rules only for auctions the user has premium access to. */
+    public List<AuctionResponse> load(List<Auction> auctions, String username) {
+        if (auctions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> auctionIds = auctions.stream().map(Auction::getId).toList();
+
+        Map<Long, Map<Long, TeamStats>> stats = teamStatsCache.statsFor(auctionIds);
+        Map<Long, List<TeamResponse>> teams = new HashMap<>();
+        for (TeamRow team : teamRepository.findRowsByAuctionIdIn(auctionIds)) {
+            teams.computeIfAbsent(team.auctionId(), id -> new ArrayList<>()).add(teamService.toResponse(team,
+                    stats.get(team.auctionId()).getOrDefault(team.id(), TeamStats.EMPTY)));
+        }
+        Map<Long, List<PlayerResponse>> players = new HashMap<>();
+        for (PlayerRow player : playerRepository.findRowsByAuctionIdIn(auctionIds)) {
+            players.computeIfAbsent(player.auctionId(), id -> new ArrayList<>()).add(playerService.toResponse(player));
+        }
+        Map<Long, List<CategoryResponse>> categories = new HashMap<>();
+        for (Category category : categoryRepository.findByAuctionIdIn(auctionIds)) {
+            categories.computeIfAbsent(category.getAuction().getId(), id -> new ArrayList<>())
+                    .add(categoryService.convertToResponse(category));
+        }
+        Set<Long> premium = accessEntitlementService.premiumAuctionIds(username, auctionIds);
+        Map<Long, List<BidRuleResponse>> bidRules = new HashMap<>();
+        if (!premium.isEmpty()) {
+            for (BidRule rule : bidRuleRepository.findByAuctionIdIn(premium)) {
+                bidRules.computeIfAbsent(rule.getAuction().getId(), id -> new ArrayList<>()).add(toResponse(rule));
+            }
+        }
+
+        List<AuctionResponse> responses = new ArrayList<>(auctions.size());
+        for (Auction auction : auctions) {
+            AuctionResponse response = toResponse(auction);
+            Long id = auction.getId();
+            response.setBidRules(bidRules.getOrDefault(id, Collections.emptyList()));
+            response.setTeams(teams.getOrDefault(id, Collections.emptyList()));
+            response.setPlayers(players.getOrDefault(id, Collections.emptyList()));
+            response.setCategories(categories.getOrDefault(id, Collections.emptyList()));
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private static AuctionResponse toResponse(Auction auction) {
+        AuctionResponse response = new AuctionResponse();
+        response.setId(auction.getId());
+        response.setName(auction.getName());
+        response.setLogoUrl(auction.getLogoUrl());
+        response.setAuctionDate(auction.getAuctionDate());
+        response.setPointsPerTeam(auction.getPointsPerTeam());
+        response.setTotalTeams(auction.getTotalTeams());
+        response.setMinimumBid(auction.getMinimumBid());
+        response.setBidIncreaseBy(auction.getBidIncreaseBy());
+        response.setBasePrice(auction.getBasePrice());
+        response.setPlayersPerTeam(auction.getPlayersPerTeam());
+        response.setIsActive(auction.getIsActive());
+        response.setPlayerRegistrationEnabled(auction.getPlayerRegistrationEnabled());
+        response.setOverlayUrl(auction.getOverlayUrl());
+        response.setSummaryUrl(auction.getSummaryUrl());
+        response.setCreatedBy(auction.getCreatedBy().getUsername());
+        return response;
+    }
+
+    private static BidRuleResponse toResponse(BidRule rule) {
+        BidRuleResponse response = new BidRuleResponse();
+        response.setId(rule.getId());
+        response.setThresholdAmount(rule.getThresholdAmount());
+        response.setIncrementAmount(rule.getIncrementAmount());
+        return response;
+    }
+}
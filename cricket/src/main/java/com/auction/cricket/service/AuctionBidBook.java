@@ -0,0 +1,211 @@
+package com.auction.cricket.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import com.auction.cricket.entity.Auction;
+import com.auction.cricket.entity.Player;
+import com.auction.cricket.entity.PlayerStatus;
+import com.auction.cricket.entity.Team;
+import com.auction.cricket.util.HashedTimingWheel.Timeout;
+import com.auction.cricket.util.Money;
+import com.auction.cricket.util.SerialExecutor;
+
+/**
+ * In-memory bidding state for a single auction. All state is confined to the
+ * book's serial executor, so it is read and written without locks. Money is
+ * held in minor units.
+ */
+class AuctionBidBook {
+
+    static class LotState {
+        final Long playerId;
+        String playerName;
+        PlayerStatus status;
+        long currentPrice;
+        Long leadingTeamId;
+        LotPhase phase = LotPhase.IDLE;
+        Timeout countdown;
+        // Bumped whenever the countdown is rescheduled so stale timeouts are ignored
+        long generation;
+        long deadlineMillis;
+        // Proxy ceilings by team, in registration order
+        final Map<Long, Long> proxyCeilings = new LinkedHashMap<>();
+
+        LotState(Player player) {
+            this.playerId = player.getId();
+            this.playerName = player.getName();
+            this.status = player.getStatus();
+            this.currentPrice = Money.toMinor(player.getCurrentPrice());
+            if (player.getTeam() != null) {
+                this.leadingTeamId = player.getTeam().getId();
+            } else if (player.getStatus() == PlayerStatus.AVAILABLE && player.getCurrentBid() != null) {
+                this.leadingTeamId = player.getCurrentBid().getTeam().getId();
+            }
+        }
+
+        // The leading bid is held on the leader's ledger until the lot closes
+        boolean holdsReservation() {
+            return leadingTeamId != null && status != PlayerStatus.SOLD;
+        }
+
+        boolean isLive() {
+            return phase == LotPhase.OPEN || phase == LotPhase.GOING_ONCE || phase == LotPhase.GOING_TWICE;
+        }
+
+        void cancelCountdown() {
+            if (countdown != null) {
+                countdown.cancel();
+                countdown = null;
+            }
+            generation++;
+        }
+
+        void resumeFrom(LotState previous) {
+            leadingTeamId = previous.leadingTeamId;
+            phase = previous.phase;
+            countdown = previous.countdown;
+            generation = previous.generation;
+            deadlineMillis = previous.deadlineMillis;
+            proxyCeilings.putAll(previous.proxyCeilings);
+        }
+    }
+
+    static class TeamState {
+        final Long teamId;
+        String teamName;
+        final TeamBudgetLedger ledger;
+        int pointsUsed;
+        int playersCount;
+        // Lots the team currently leads; each will fill a squad slot if it closes
+        int leadingLots;
+
+        TeamState(Team team) {
+            this.teamId = team.getId();
+            this.teamName = team.getName();
+            this.ledger = new TeamBudgetLedger(Money.toMinor(team.getRemainingBudget()));
+            this.pointsUsed = team.getPointsUsed() != null ? team.getPointsUsed() : 0;
+        }
+    }
+
+    private final Long auctionId;
+    private final SerialExecutor executor;
+    private final Map<Long, LotState> lots = new HashMap<>();
+    private final Map<Long, TeamState> teams = new HashMap<>();
+    // Live lots kept across a clear so their countdowns survive the reload
+    private final Map<Long, LotState> retained = new HashMap<>();
+    private boolean loaded;
+    private long lastSequence;
+    private long basePrice;
+    private int playersPerTeam;
+
+    AuctionBidBook(Long auctionId, Executor pool) {
+        this.auctionId = auctionId;
+        this.executor = new SerialExecutor(pool);
+    }
+
+    Long getAuctionId() {
+        return auctionId;
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    void load(Auction auction, Iterable<Player> players, Iterable<Team> teamEntities, long persistedSequence) {
+        lots.clear();
+        teams.clear();
+        basePrice = Money.toMinor(auction.getBasePrice());
+        playersPerTeam = auction.getPlayersPerTeam() != null ? auction.getPlayersPerTeam() : 0;
+        for (Team team : teamEntities) {
+            teams.put(team.getId(), new TeamState(team));
+        }
+        for (Player player : players) {
+            LotState lot = new LotState(player);
+            LotState previous = retained.remove(player.getId());
+            if (previous != null) {
+                if (lot.status != PlayerStatus.SOLD) {
+                    lot.resumeFrom(previous);
+                } else {
+                    // Sold outside the book while its countdown was running
+                    previous.cancelCountdown();
+                }
+            }
+            lots.put(player.getId(), lot);
+            restoreReservation(lot);
+            // Count squads from the players themselves; teams.players_count is not kept up to date
+            if (player.getTeam() != null) {
+                TeamState owner = teams.get(player.getTeam().getId());
+                if (owner != null) {
+                    owner.playersCount++;
+                }
+            }
+        }
+        retained.values().forEach(LotState::cancelCountdown);
+        retained.clear();
+        // Never move backwards, even if the database lags the book
+        lastSequence = Math.max(lastSequence, persistedSequence);
+        loaded = true;
+    }
+
+    long getBasePrice() {
+        return basePrice;
+    }
+
+    int getPlayersPerTeam() {
+        return playersPerTeam;
+    }
+
+    Iterable<LotState> lots() {
+        return lots.values();
+    }
+
+    Iterable<TeamState> teams() {
+        return teams.values();
+    }
+
+    long nextSequence() {
+        return ++lastSequence;
+    }
+
+    void clear() {
+        lots.values().stream().filter(LotState::isLive).forEach(lot -> retained.put(lot.playerId, lot));
+        lots.clear();
+        teams.clear();
+        loaded = false;
+    }
+
+    LotState lot(Long playerId) {
+        return lots.get(playerId);
+    }
+
+    TeamState team(Long teamId) {
+        return teams.get(teamId);
+    }
+
+    void putLot(Player player) {
+        LotState lot = new LotState(player);
+        lots.put(player.getId(), lot);
+        restoreReservation(lot);
+    }
+
+    private void restoreReservation(LotState lot) {
+        if (lot.holdsReservation()) {
+            TeamState leader = teams.get(lot.leadingTeamId);
+            if (leader != null) {
+                leader.ledger.restore(lot.currentPrice);
+                leader.leadingLots++;
+            }
+        }
+    }
+
+    void putTeam(Team team) {
+        teams.put(team.getId(), new TeamState(team));
+    }
+}
@@ -0,0 +1,108 @@
+package com.auction.cricket.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auction.cricket.dto.AuctionDeltaResponse;
+import com.auction.cricket.dto.AuctionResumeResponse;
+
+/**
+ * Numbers every change broadcast for an auction and keeps the most recent
+ * ones in a fixed-size ring, so a reconnecting client can catch up from its
+ * last version instead of reloading the auction. Versions restart with the
+ * process; the epoch tells clients when that has happened.
+ */
+@Component
+public class AuctionDeltaLog {
+
+    public enum DeltaType {
+        BID, PLAYER, TEAM, LOT
+    }
+
+    private final int capacity;
+    private final long epoch = System.currentTimeMillis();
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    public AuctionDeltaLog(@Value("${app.sync.delta-buffer-size:1024}") int capacity) {
+        this.capacity = Math.max(capacity, 1);
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    public AuctionDeltaResponse append(Long auctionId, DeltaType type, Object payload) {
+        return rings.computeIfAbsent(auctionId, id -> new Ring(capacity)).append(auctionId, type, payload);
+    }
+
+    public long currentVersion(Long auctionId) {
+        Ring ring = rings.get(auctionId);
+        return ring != null ? ring.version() : 0;
+    }
+
+    /**
+     * Deltas after {@code fromVersion}, or a response with {@code resumed}
+     * false when the client is on another epoch or has fallen out of the ring.
+     */
+    public AuctionResumeResponse since(Long auctionId, Long clientEpoch, long fromVersion) {
+        AuctionResumeResponse response = new AuctionResumeResponse();
+        response.setAuctionId(auctionId);
+        response.setEpoch(epoch);
+        Ring ring = rings.get(auctionId);
+        List<AuctionDeltaResponse> deltas = null;
+        if (clientEpoch != null && clientEpoch == epoch) {
+            deltas = ring != null ? ring.since(fromVersion) : (fromVersion == 0 ? List.of() : null);
+        }
+        response.setResumed(deltas != null);
+        response.setDeltas(deltas != null ? deltas : List.of());
+        response.setVersion(ring != null ? ring.version() : 0);
+        return response;
+    }
+
+    public void forget(Long auctionId) {
+        rings.remove(auctionId);
+    }
+
+    private final class Ring {
+        private final AuctionDeltaResponse[] slots;
+        private long version;
+
+        Ring(int capacity) {
+            this.slots = new AuctionDeltaResponse[capacity];
+        }
+
+        synchronized AuctionDeltaResponse append(Long auctionId, DeltaType type, Object payload) {
+            AuctionDeltaResponse delta = new AuctionDeltaResponse();
+            delta.setAuctionId(auctionId);
+            delta.setEpoch(epoch);
+            delta.setVersion(++version);
+            delta.setType(type.name());
+            delta.setPayload(payload);
+            delta.setTimestamp(System.currentTimeMillis());
+            slots[(int) (version % slots.length)] = delta;
+            return delta;
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        // Null when fromVersion is ahead of the ring or older than what it still holds
+        synchronized List<AuctionDeltaResponse> since(long fromVersion) {
+            long oldest = Math.max(1, version - slots.length + 1);
+            if (fromVersion > version || fromVersion + 1 < oldest) {
+                return null;
+            }
+            List<AuctionDeltaResponse> deltas = new ArrayList<>((int) (version - fromVersion));
+            for (long v = fromVersion + 1; v <= version; v++) {
+                deltas.add(slots[(int) (v % slots.length)]);
+            }
+            return deltas;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.auction.cricket.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auction.cricket.dto.AuctionDeltaResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read-only Server-Sent Events feed of each auction's deltas. Every delta is
+ * encoded into an SSE frame once, when it is published, and the same bytes
+ * are written to every subscriber. Each subscriber runs on its own virtual
+ * thread and stays parked until a frame arrives, so idle spectators cost
+ * almost nothing. Event ids are {@code epoch-version}. A reconnecting
+ * {@code EventSource} sends the last one back as {@code Last-Event-ID}, and
+ * the frames it missed are replayed from a ring of recent frames.
+ */
+@Component
+public class AuctionEventStream {
+
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final AuctionDeltaLog deltaLog;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final long heartbeatNanos;
+    private final Map<Long, Feed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    public AuctionEventStream(AuctionDeltaLog deltaLog, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${app.sync.delta-buffer-size:1024}") int capacity,
+            @Value("${app.sse.heartbeat-ms:15000}") long heartbeatMs) {
+        this.deltaLog = deltaLog;
+        this.objectMapper = objectMapper;
+        this.capacity = Math.max(capacity, 1);
+        this.heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatMs);
+        Gauge.builder("auction.sse.subscribers", subscribers, AtomicInteger::get)
+                .description("Open Server-Sent Events connections")
+                .register(meterRegistry);
+    }
+
+    /** Encodes a delta once and wakes every subscriber of its auction. */
+    public void publish(AuctionDeltaResponse delta) {
+        byte[] frame = frame(eventId(delta.getVersion()), delta.getType(), toJson(delta));
+        feed(delta.getAuctionId()).append(delta.getVersion(), frame);
+    }
+
+    public void forget(Long auctionId) {
+        Feed feed = feeds.remove(auctionId);
+        if (feed != null) {
+            feed.close();
+        }
+    }
+
+    /**
+     * Streams an auction's events to {@code out} until the client goes away
+     * or the stream is closed. A {@code lastEventId} this server cannot
+     * resume from results in a {@code resync} event, and the client should
+     * reload its snapshot.
+     */
+    public void stream(Long auctionId, String lastEventId, OutputStream out) throws IOException {
+        Feed feed = feed(auctionId);
+        subscribers.incrementAndGet();
+        try {
+            long cursor;
+            long resumeFrom = resumeVersion(lastEventId);
+            List<byte[]> pending = new ArrayList<>();
+            if (resumeFrom >= 0 && feed.since(resumeFrom, pending)) {
+                cursor = resumeFrom;
+            } else {
+                // Nothing to resume: tell the client where it stands now
+                pending.clear();
+                cursor = feed.version();
+                String type = lastEventId != null ? "resync" : "ready";
+                out.write(frame(eventId(cursor), type, "{\"version\":" + cursor + "}"));
+            }
+            while (true) {
+                for (byte[] frame : pending) {
+                    out.write(frame);
+                }
+                cursor += pending.size();
+                out.flush();
+                pending.clear();
+                if (!feed.await(cursor, heartbeatNanos)) {
+                    if (feed.closed || Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    out.write(HEARTBEAT);
+                    out.flush();
+                    continue;
+                }
+                if (!feed.since(cursor, pending)) {
+                    // Fell out of the ring while writing to a slow client
+                    cursor = feed.version();
+                    out.write(frame(eventId(cursor), "resync", "{\"version\":" + cursor + "}"));
+                }
+            }
+        } finally {
+            subscribers.decrementAndGet();
+        }
+    }
+
+    private Feed feed(Long auctionId) {
+        return feeds.computeIfAbsent(auctionId, id -> new Feed(capacity, deltaLog.currentVersion(id)));
+    }
+
+    private String eventId(long version) {
+        return deltaLog.epoch() + "-" + version;
+    }
+
+    // -1 when the id is missing, malformed or from another epoch
+    private long resumeVersion(String lastEventId) {
+        if (lastEventId == null) {
+            return -1;
+        }
+        int dash = lastEventId.indexOf('-');
+        try {
+            if (dash < 0 || Long.parseLong(lastEventId.substring(0, dash)) != deltaLog.epoch()) {
+                return -1;
+            }
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static byte[] frame(String id, String event, String data) {
+        return ("id: " + id + "\nevent: " + event + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String toJson(AuctionDeltaResponse delta) {
+        try {
+            return objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode auction delta", e);
+        }
+    }
+
+    // ReentrantLock rather than synchronized so parked virtual threads release their carrier
+    private static final class Feed {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition advanced = lock.newCondition();
+        private final byte[][] frames;
+        private long version;
+        private volatile boolean closed;
+
+        Feed(int capacity, long version) {
+            this.frames = new byte[capacity][];
+            this.version = version;
+        }
+
+        void append(long deltaVersion, byte[] frame) {
+            lock.lock();
+            try {
+                version = deltaVersion;
+                frames[(int) (deltaVersion % frames.length)] = frame;
+                advanced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long version() {
+            lock.lock();
+            try {
+                return version;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Adds the frames after fromVersion; false if some are no longer held
+        boolean since(long fromVersion, List<byte[]> into) {
+            lock.lock();
+            try {
+                long oldest = Math.max(1, version - frames.length + 1);
+                if (fromVersion > version || fromVersion + 1 < oldest) {
+                    return false;
+                }
+                for (long v = fromVersion + 1; v <= version; v++) {
+                    byte[] frame = frames[(int) (v % frames.length)];
+                    if (frame == null) {
+                        // Published before this feed existed
+                        return false;
+                    }
+                    into.add(frame);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // False on timeout or close
+        boolean await(long cursor, long timeoutNanos) {
+            lock.lock();
+            try {
+                long remaining = timeoutNanos;
+                while (version <= cursor && !closed) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = advanced.awaitNanos(remaining);
+                }
+                return !closed;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+                advanced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.auction.cricket.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,17 +20,14 @@ import com.auction.cricket.repository.SponsorRepository;
 import com.auction.cricket.repository.TeamRepository;
 import jakarta.persistence.EntityManager;
 import com.auction.cricket.repository.UserRepository;
+import com.auction.cricket.security.AuctionSubscriptionInterceptor;
 
 @Service
 public class AuctionService {
 
     private final AuctionRepository auctionRepository;
     private final UserRepository userRepository;
-    private final TeamService teamService;
-    private final PlayerService playerService;
-
-    private final CategoryService categoryService;
-
+    private final AuctionAggregateLoader aggregateLoader;
     private final CategoryRepository categoryRepository;
     private final PlayerRepository playerRepository;
     private final BidRepository bidRepository;
@@ -39,18 +35,26 @@ public class AuctionService {
     private final SponsorRepository sponsorRepository;
     private final TeamRepository teamRepository;
     private final EntityManager entityManager;
-    private final AccessEntitlementService accessEntitlementService;
-
-    public AuctionService(AuctionRepository auctionRepository, UserRepository userRepository, TeamService teamService,
-            PlayerService playerService, CategoryService categoryService, CategoryRepository categoryRepository,
+    private final BidBookService bidBookService;
+    private final BidRuleEngine bidRuleEngine;
+    private final AuctionDeltaLog auctionDeltaLog;
+    private final AuctionEventStream auctionEventStream;
+    private final OverlayStateService overlayStateService;
+    private final AuctionSubscriptionInterceptor subscriptionInterceptor;
+    private final PresenceRegistry presenceRegistry;
+    private final TeamStatsCache teamStatsCache;
+
+    public AuctionService(AuctionRepository auctionRepository, UserRepository userRepository,
+            AuctionAggregateLoader aggregateLoader, CategoryRepository categoryRepository,
             PlayerRepository playerRepository, BidRepository bidRepository, BidRuleRepository bidRuleRepository,
             SponsorRepository sponsorRepository, TeamRepository teamRepository, EntityManager entityManager,
-            AccessEntitlementService accessEntitlementService) {
+            BidBookService bidBookService, BidRuleEngine bidRuleEngine, AuctionDeltaLog auctionDeltaLog,
+            AuctionEventStream auctionEventStream,
+            OverlayStateService overlayStateService, AuctionSubscriptionInterceptor subscriptionInterceptor,
+            PresenceRegistry presenceRegistry, TeamStatsCache teamStatsCache) {
         this.auctionRepository = auctionRepository;
         this.userRepository = userRepository;
-        this.teamService = teamService;
-        this.playerService = playerService;
-        this.categoryService = categoryService;
+        this.aggregateLoader = aggregateLoader;
         this.categoryRepository = categoryRepository;
         this.playerRepository = playerRepository;
         this.bidRepository = bidRepository;
@@ -58,7 +62,14 @@ public class AuctionService {
         this.sponsorRepository = sponsorRepository;
         this.teamRepository = teamRepository;
         this.entityManager = entityManager;
-        this.accessEntitlementService = accessEntitlementService;
+        this.bidBookService = bidBookService;
+        this.bidRuleEngine = bidRuleEngine;
+        this.auctionDeltaLog = auctionDeltaLog;
+        this.auctionEventStream = auctionEventStream;
+        this.overlayStateService = overlayStateService;
+        this.subscriptionInterceptor = subscriptionInterceptor;
+        this.presenceRegistry = presenceRegistry;
+        this.teamStatsCache = teamStatsCache;
     }
 
     @Transactional
@@ -97,32 +108,7 @@ public class AuctionService {
     public List<AuctionResponse> getAuctionsByUser(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        return auctionRepository.findByCreatedBy(user).stream()
-                .map(auction -> convertToResponse(auction, username))
-                .collect(Collectors.toList());
-    }
-
-    @Transactional(readOnly = true)
-    public List<AuctionResponse> getUpcomingAuctions() {
-        return auctionRepository.findUpcomingAuctions(LocalDateTime.now()).stream()
-                .map(auction -> convertToResponse(auction, null))
-                .collect(Collectors.toList());
-    }
-
-    @Transactional(readOnly = true)
-    public List<AuctionResponse> getRecentAuctions() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime twoDaysAgo = now.minusDays(2);
-        return auctionRepository.findRecentAuctions(now, twoDaysAgo).stream()
-                .map(auction -> convertToResponse(auction, null))
-                .collect(Collectors.toList());
-    }
-
-    @Transactional(readOnly = true)
-    public List<AuctionResponse> getPastAuctions() {
-        return auctionRepository.findPastAuctions(LocalDateTime.now()).stream()
-                .map(auction -> convertToResponse(auction, null))
-                .collect(Collectors.toList());
+        return aggregateLoader.load(auctionRepository.findByCreatedBy(user), username);
     }
 
     @Transactional(readOnly = true)
@@ -163,6 +149,8 @@ public class AuctionService {
         auction.setPlayersPerTeam(request.getPlayersPerTeam());
 
         auction = auctionRepository.save(auction);
+        bidRuleEngine.invalidate(id);
+        bidBookService.invalidate(id);
         return convertToResponse(auction, username);
     }
 
@@ -204,6 +192,14 @@ public class AuctionService {
         entityManager.clear();
 
         auctionRepository.deleteByIdDirect(auction.getId());
+        bidBookService.invalidate(id);
+        bidRuleEngine.invalidate(id);
+        auctionDeltaLog.forget(id);
+        auctionEventStream.forget(id);
+        overlayStateService.forget(id);
+        subscriptionInterceptor.forget(id);
+        presenceRegistry.forget(id);
+        teamStatsCache.invalidate(id);
     }
 
     @Transactional
@@ -239,39 +235,6 @@ public class AuctionService {
     }
 
     private AuctionResponse convertToResponse(Auction auction, String username) {
-        AuctionResponse response = new AuctionResponse();
-        response.setId(auction.getId());
-        response.setName(auction.getName());
-        response.setLogoUrl(auction.getLogoUrl());
-        response.setAuctionDate(auction.getAuctionDate());
-        response.setPointsPerTeam(auction.getPointsPerTeam());
-        response.setTotalTeams(auction.getTotalTeams());
-        response.setMinimumBid(auction.getMinimumBid());
-        response.setBidIncreaseBy(auction.getBidIncreaseBy());
-        response.setBasePrice(auction.getBasePrice());
-        response.setPlayersPerTeam(auction.getPlayersPerTeam());
-        response.setIsActive(auction.getIsActive());
-        response.setPlayerRegistrationEnabled(auction.getPlayerRegistrationEnabled());
-        response.setOverlayUrl(auction.getOverlayUrl());
-        response.setSummaryUrl(auction.getSummaryUrl());
-        response.setCreatedBy(auction.getCreatedBy().getUsername());
-        boolean canUsePremium = username != null && accessEntitlementService.hasPremiumAccess(username, auction.getId());
-        if (canUsePremium) {
-            response.setBidRules(
-                    auction.getBidRules().stream().map(rule -> {
-                        com.auction.cricket.dto.BidRuleResponse br = new com.auction.cricket.dto.BidRuleResponse();
-                        br.setId(rule.getId());
-                        br.setThresholdAmount(rule.getThresholdAmount());
-                        br.setIncrementAmount(rule.getIncrementAmount());
-                        return br;
-                    }).collect(Collectors.toList()));
-        } else {
-            response.setBidRules(java.util.Collections.emptyList());
-        }
-        // Add teams and players
-        response.setTeams(teamService.getTeamsByAuction(auction.getId()));
-        response.setPlayers(playerService.getAllPlayers(auction.getId()));
-        response.setCategories(categoryService.getAllCategoriesByAuction(auction.getId()));
-        return response;
+        return aggregateLoader.load(auction, username);
     }
 }
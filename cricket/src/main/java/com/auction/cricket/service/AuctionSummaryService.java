@@ -0,0 +1,129 @@
+package com.auction.cricket.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auction.cricket.dto.AuctionSummaryPageResponse;
+import com.auction.cricket.dto.AuctionSummaryResponse;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.repository.AuctionSummaryView;
+
+/**
+ * Upcoming, recent and past auction listings. Each page is one projection
+ * query with roster sizes counted in the database, paged by auction date and
+ * id. The pages are the same for every user, so they are shared from a short
+ * TTL cache.
+ */
+@Service
+public class AuctionSummaryService {
+
+    public enum Listing {
+        UPCOMING, RECENT, PAST
+    }
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CACHED_PAGES = 1000;
+
+    private record PageKey(Listing listing, String cursor, int limit) {
+    }
+
+    private record CachedPage(AuctionSummaryPageResponse page, long expiresAt) {
+    }
+
+    private record Cursor(LocalDateTime date, long id) {
+    }
+
+    private final AuctionRepository auctionRepository;
+    private final long ttlMs;
+    private final Map<PageKey, CachedPage> cache = new ConcurrentHashMap<>();
+
+    public AuctionSummaryService(AuctionRepository auctionRepository,
+            @Value("${app.auctions.summary-cache-ttl-ms:5000}") long ttlMs) {
+        this.auctionRepository = auctionRepository;
+        this.ttlMs = ttlMs;
+    }
+
+    @Transactional(readOnly = true)
+    public AuctionSummaryPageResponse getPage(Listing listing, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        long now = System.currentTimeMillis();
+        PageKey key = new PageKey(listing, cursor, limit);
+        CachedPage cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.page();
+        }
+        AuctionSummaryPageResponse page = load(listing, cursor != null ? decode(cursor) : null, limit);
+        if (cache.size() >= MAX_CACHED_PAGES) {
+            cache.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+        if (cache.size() < MAX_CACHED_PAGES) {
+            cache.put(key, new CachedPage(page, now + ttlMs));
+        }
+        return page;
+    }
+
+    private AuctionSummaryPageResponse load(Listing listing, Cursor cursor, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        // Without a cursor, start from now: every id passes the tie-break
+        LocalDateTime date = cursor != null ? cursor.date() : now;
+        // One extra row tells whether there is a next page
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<AuctionSummaryView> rows = switch (listing) {
+            case UPCOMING -> auctionRepository.findUpcomingSummaries(now, date,
+                    cursor != null ? cursor.id() : Long.MIN_VALUE, page);
+            case RECENT -> auctionRepository.findRecentSummaries(now.minusDays(2), date,
+                    cursor != null ? cursor.id() : Long.MAX_VALUE, page);
+            case PAST -> auctionRepository.findPastSummaries(date,
+                    cursor != null ? cursor.id() : Long.MAX_VALUE, page);
+        };
+
+        AuctionSummaryPageResponse response = new AuctionSummaryPageResponse();
+        List<AuctionSummaryView> items = rows.size() > limit ? rows.subList(0, limit) : rows;
+        response.setItems(items.stream().map(AuctionSummaryService::toResponse).toList());
+        if (rows.size() > limit) {
+            AuctionSummaryView last = items.get(items.size() - 1);
+            response.setNextCursor(encode(new Cursor(last.getAuctionDate(), last.getId())));
+        }
+        return response;
+    }
+
+    private static AuctionSummaryResponse toResponse(AuctionSummaryView view) {
+        AuctionSummaryResponse response = new AuctionSummaryResponse();
+        response.setId(view.getId());
+        response.setName(view.getName());
+        response.setLogoUrl(view.getLogoUrl());
+        response.setAuctionDate(view.getAuctionDate());
+        response.setTeamCount(view.getTeamCount());
+        response.setPlayerCount(view.getPlayerCount());
+        response.setSoldCount(view.getSoldCount());
+        return response;
+    }
+
+    private static String encode(Cursor cursor) {
+        String raw = cursor.date() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
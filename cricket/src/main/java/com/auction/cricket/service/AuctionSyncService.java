@@ -0,0 +1,128 @@
+package com.auction.cricket.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auction.cricket.dto.AuctionResumeResponse;
+import com.auction.cricket.dto.AuctionSnapshotResponse;
+import com.auction.cricket.dto.PlayerResponse;
+import com.auction.cricket.dto.TeamResponse;
+import com.auction.cricket.entity.PlayerStatus;
+import com.auction.cricket.exception.ResourceNotFoundException;
+import com.auction.cricket.repository.AuctionRepository;
+
+/**
+ * Serves the two halves of the live sync protocol: a versioned snapshot to
+ * start from, and the deltas a client missed while disconnected.
+ */
+@Service
+public class AuctionSyncService {
+
+    private final AuctionService auctionService;
+    private final TeamService teamService;
+    private final PlayerService playerService;
+    private final AuctionRepository auctionRepository;
+    private final AuctionDeltaLog deltaLog;
+    private final BidBookService bidBookService;
+
+    public AuctionSyncService(AuctionService auctionService, TeamService teamService, PlayerService playerService,
+            AuctionRepository auctionRepository, AuctionDeltaLog deltaLog, BidBookService bidBookService) {
+        this.auctionService = auctionService;
+        this.teamService = teamService;
+        this.playerService = playerService;
+        this.auctionRepository = auctionRepository;
+        this.deltaLog = deltaLog;
+        this.bidBookService = bidBookService;
+    }
+
+    @Transactional(readOnly = true)
+    public AuctionSnapshotResponse getSnapshot(Long auctionId, String username) {
+        if (!auctionRepository.existsById(auctionId)) {
+            throw new ResourceNotFoundException("Auction not found with id: " + auctionId);
+        }
+        AuctionSnapshotResponse snapshot = new AuctionSnapshotResponse();
+        snapshot.setEpoch(deltaLog.epoch());
+        // Bids are numbered before the write-behind persists them, so the version
+        // is read with the book's lots and budgets rather than trusted against the
+        // database. Deltas the snapshot already reflects may be replayed, but none
+        // it misses can be skipped
+        BidBookSnapshot book = bidBookService.snapshot(auctionId, () -> deltaLog.currentVersion(auctionId));
+        snapshot.setVersion(book.version());
+        snapshot.setAuction(auctionService.getAuctionById(auctionId, username));
+        snapshot.setTeams(teamService.getTeamsByAuction(auctionId));
+        snapshot.setAvailablePlayers(playerService.getAvailablePlayers(auctionId));
+        applyBook(snapshot, book);
+        return snapshot;
+    }
+
+    public AuctionResumeResponse resume(Long auctionId, Long epoch, long fromVersion) {
+        if (!auctionRepository.existsById(auctionId)) {
+            throw new ResourceNotFoundException("Auction not found with id: " + auctionId);
+        }
+        return deltaLog.since(auctionId, epoch, fromVersion);
+    }
+
+    /** Lays the book's prices, sales and budgets over what the database had persisted. */
+    private static void applyBook(AuctionSnapshotResponse snapshot, BidBookSnapshot book) {
+        // Sales the book has made that have not reached the database yet, by team
+        Map<Long, List<PlayerResponse>> unpersistedSales = new HashMap<>();
+        for (PlayerResponse player : snapshot.getAuction().getPlayers()) {
+            BidBookSnapshot.Lot lot = book.lots().get(player.getId());
+            if (lot == null) {
+                continue;
+            }
+            if (lot.status() == PlayerStatus.SOLD && !player.isSold() && lot.leadingTeamId() != null) {
+                unpersistedSales.computeIfAbsent(lot.leadingTeamId(), id -> new ArrayList<>()).add(player);
+            }
+            applyLot(player, lot);
+        }
+        snapshot.setAvailablePlayers(snapshot.getAvailablePlayers().stream().filter(player -> {
+            BidBookSnapshot.Lot lot = book.lots().get(player.getId());
+            if (lot == null) {
+                return true;
+            }
+            applyLot(player, lot);
+            return lot.status() == PlayerStatus.AVAILABLE;
+        }).toList());
+        Stream.concat(snapshot.getTeams().stream(), snapshot.getAuction().getTeams().stream())
+                .forEach(team -> applyBudget(team, book, unpersistedSales.getOrDefault(team.getId(), List.of())));
+    }
+
+    private static void applyLot(PlayerResponse player, BidBookSnapshot.Lot lot) {
+        player.setStatus(lot.status().name());
+        player.setSold(lot.status() == PlayerStatus.SOLD);
+        player.setUnsold(lot.status() == PlayerStatus.UNSOLD);
+        player.setCurrentPrice(lot.currentPrice());
+        if (lot.status() == PlayerStatus.SOLD) {
+            player.setTeamName(lot.leadingTeamName());
+        }
+    }
+
+    private static void applyBudget(TeamResponse team, BidBookSnapshot book, List<PlayerResponse> sales) {
+        Double remaining = book.remainingBudgets().get(team.getId());
+        if (remaining != null) {
+            team.setRemainingBudget(remaining);
+        }
+        if (sales.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> roleCounts = team.getRoleCounts() != null ? new HashMap<>(team.getRoleCounts())
+                : new HashMap<>();
+        long pointsUsed = team.getPointsUsed() != null ? team.getPointsUsed() : 0;
+        for (PlayerResponse sale : sales) {
+            pointsUsed += Math.round(sale.getCurrentPrice());
+            if (sale.getRole() != null) {
+                roleCounts.merge(sale.getRole(), 1, Integer::sum);
+            }
+        }
+        team.setPointsUsed((int) pointsUsed);
+        team.setPlayersCount((team.getPlayersCount() != null ? team.getPlayersCount() : 0) + sales.size());
+        team.setRoleCounts(roleCounts);
+    }
+}
@@ -0,0 +1,12 @@
+package com.auction.cricket.service;
+
+/**
+ * A sequenced change made by an {@link AuctionBidBook}, journaled and then
+ * written to the database by {@link BidWriteBehindService}.
+ */
+public sealed interface BidBookEntry permits AcceptedBid, LotClosed {
+
+    Long auctionId();
+
+    long sequence();
+}
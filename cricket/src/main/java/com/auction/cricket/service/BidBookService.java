@@ -0,0 +1,679 @@
+package com.auction.cricket.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auction.cricket.dto.BidRequest;
+import com.auction.cricket.dto.BidResponse;
+import com.auction.cricket.dto.LotCountdownResponse;
+import com.auction.cricket.dto.ProxyBidResponse;
+import com.auction.cricket.dto.TeamBidLimitResponse;
+import com.auction.cricket.entity.Player;
+import com.auction.cricket.entity.PlayerStatus;
+import com.auction.cricket.entity.Team;
+import com.auction.cricket.event.BidPlacedEvent;
+import com.auction.cricket.event.LotCountdownEvent;
+import com.auction.cricket.event.PlayerUpdatedEvent;
+import com.auction.cricket.event.TeamUpdatedEvent;
+import com.auction.cricket.exception.ResourceNotFoundException;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.TeamRepository;
+import com.auction.cricket.service.AuctionBidBook.LotState;
+import com.auction.cricket.service.AuctionBidBook.TeamState;
+import com.auction.cricket.util.HashedTimingWheel;
+import com.auction.cricket.util.Money;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Accepts bids against per-auction in-memory books. Each auction's book is
+ * driven by its own serial executor, so bids for one auction are applied one
+ * at a time while different auctions proceed in parallel on a shared pool.
+ * Every bid restarts the lot's going once / going twice / sold countdown,
+ * which runs on a shared timing wheel and closes the lot on the book's
+ * executor.
+ */
+@Service
+public class BidBookService {
+    private static final Logger logger = LoggerFactory.getLogger(BidBookService.class);
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final AuctionRepository auctionRepository;
+    private final BidWriteBehindService writeBehindService;
+    private final BidJournal bidJournal;
+    private final BidIdempotencyCache idempotencyCache;
+    private final BidRuleEngine bidRuleEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashedTimingWheel lotTimer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService pool;
+    private final long ackTimeoutMs;
+    private final long goingOnceMs;
+    private final long goingTwiceMs;
+    private final long soldMs;
+
+    private final Map<Long, AuctionBidBook> books = new ConcurrentHashMap<>();
+    private final Map<Long, Long> playerAuctions = new ConcurrentHashMap<>();
+
+    public BidBookService(PlayerRepository playerRepository, TeamRepository teamRepository,
+            AuctionRepository auctionRepository, BidWriteBehindService writeBehindService, BidJournal bidJournal,
+            BidIdempotencyCache idempotencyCache, BidRuleEngine bidRuleEngine,
+            ApplicationEventPublisher eventPublisher, HashedTimingWheel lotTimer,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.bidding.book-threads:4}") int bookThreads,
+            @Value("${app.bidding.ack-timeout-ms:5000}") long ackTimeoutMs,
+            @Value("${app.lots.countdown.going-once-ms:10000}") long goingOnceMs,
+            @Value("${app.lots.countdown.going-twice-ms:3000}") long goingTwiceMs,
+            @Value("${app.lots.countdown.sold-ms:3000}") long soldMs) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.auctionRepository = auctionRepository;
+        this.writeBehindService = writeBehindService;
+        this.bidJournal = bidJournal;
+        this.idempotencyCache = idempotencyCache;
+        this.bidRuleEngine = bidRuleEngine;
+        this.eventPublisher = eventPublisher;
+        this.lotTimer = lotTimer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ackTimeoutMs = ackTimeoutMs;
+        this.goingOnceMs = goingOnceMs;
+        this.goingTwiceMs = goingTwiceMs;
+        this.soldMs = soldMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(bookThreads, runnable -> {
+            Thread thread = new Thread(runnable, "bid-book-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public BidResponse placeBid(BidRequest request, Long teamId) {
+        if (request.getPlayerId() == null) {
+            throw new IllegalArgumentException("Player ID is required");
+        }
+        if (teamId == null) {
+            throw new IllegalArgumentException("Team ID is required");
+        }
+        if (request.getAmount() == null) {
+            throw new IllegalArgumentException("Amount is required");
+        }
+        String idempotencyKey = request.getIdempotencyKey();
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return await(submit(request, teamId));
+        }
+
+        CompletableFuture<BidResponse> pending = new CompletableFuture<>();
+        CompletableFuture<BidResponse> original = idempotencyCache.putIfAbsent(teamId, idempotencyKey, pending);
+        if (original != null) {
+            return await(original);
+        }
+        submit(request, teamId).whenComplete((response, failure) -> {
+            if (failure != null) {
+                idempotencyCache.remove(teamId, idempotencyKey, pending);
+                pending.completeExceptionally(failure);
+            } else {
+                pending.complete(response);
+            }
+        });
+        return await(pending);
+    }
+
+    /**
+     * Lets the server bid on a team's behalf up to {@code ceiling}, answering
+     * rival bids with the smallest valid raise until the ceiling is reached.
+     */
+    public ProxyBidResponse registerProxyBid(Long auctionId, Long playerId, Long teamId, Double ceiling) {
+        if (ceiling == null || ceiling <= 0) {
+            throw new IllegalArgumentException("Proxy ceiling must be positive");
+        }
+        AuctionBidBook book = bookFor(auctionId);
+        return await(CompletableFuture.supplyAsync(
+                () -> registerProxyBid(book, playerId, teamId, Money.toMinor(ceiling)), book.executor()));
+    }
+
+    public ProxyBidResponse cancelProxyBid(Long auctionId, Long playerId, Long teamId) {
+        AuctionBidBook book = bookFor(auctionId);
+        return await(CompletableFuture.supplyAsync(
+                () -> cancelProxyBid(book, playerId, teamId), book.executor()));
+    }
+
+    /**
+     * Current bid limits of every team in the auction, as pushed with each bid.
+     */
+    public List<TeamBidLimitResponse> getBidLimits(Long auctionId) {
+        AuctionBidBook book = bookFor(auctionId);
+        return await(CompletableFuture.supplyAsync(() -> {
+            ensureLoaded(book);
+            return teamLimits(book);
+        }, book.executor()));
+    }
+
+    /**
+     * Lot prices, sales and remaining budgets as the book holds them, with the
+     * version read on the book's executor. Bids are numbered as deltas only
+     * once the book has applied them, so every delta up to that version is
+     * already reflected here even if it has not reached the database yet.
+     */
+    public BidBookSnapshot snapshot(Long auctionId, LongSupplier version) {
+        AuctionBidBook book = bookFor(auctionId);
+        return await(CompletableFuture.supplyAsync(() -> {
+            ensureLoaded(book);
+            long current = version.getAsLong();
+            Map<Long, BidBookSnapshot.Lot> lots = new HashMap<>();
+            for (LotState lot : book.lots()) {
+                TeamState leader = lot.leadingTeamId != null ? book.team(lot.leadingTeamId) : null;
+                lots.put(lot.playerId, new BidBookSnapshot.Lot(lot.status, Money.toMajor(lot.currentPrice),
+                        lot.leadingTeamId, leader != null ? leader.teamName : null));
+            }
+            Map<Long, Double> budgets = new HashMap<>();
+            for (TeamState team : book.teams()) {
+                budgets.put(team.teamId, Money.toMajor(team.ledger.remaining()));
+            }
+            return new BidBookSnapshot(current, lots, budgets);
+        }, book.executor()));
+    }
+
+    /**
+     * Puts a player on the block without a bid. The lot goes unsold if the
+     * countdown runs out before anyone bids.
+     */
+    public LotCountdownResponse openLot(Long auctionId, Long playerId) {
+        AuctionBidBook book = bookFor(auctionId);
+        return await(CompletableFuture.supplyAsync(() -> {
+            ensureLoaded(book);
+            LotState lot = lotFor(book, playerId);
+            if (lot.status == PlayerStatus.SOLD) {
+                throw new IllegalArgumentException("Player is already sold");
+            }
+            if (!lot.isLive()) {
+                startCountdown(book, lot);
+            }
+            return toCountdown(book, lot);
+        }, book.executor()));
+    }
+
+    /**
+     * Brings the hammer down on a live lot immediately.
+     */
+    public LotCountdownResponse closeLot(Long auctionId, Long playerId) {
+        AuctionBidBook book = bookFor(auctionId);
+        return await(CompletableFuture.supplyAsync(() -> {
+            ensureLoaded(book);
+            LotState lot = lotFor(book, playerId);
+            if (!lot.isLive()) {
+                throw new IllegalArgumentException("Lot is not open");
+            }
+            close(book, lot);
+            return toCountdown(book, lot);
+        }, book.executor()));
+    }
+
+    /**
+     * Drops the cached state of an auction's book once the current transaction
+     * commits, so the next bid reloads it from the database. Called by services
+     * that change players or teams outside the bidding path.
+     */
+    public void invalidate(Long auctionId) {
+        if (auctionId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clearBook(auctionId);
+                }
+            });
+        } else {
+            clearBook(auctionId);
+        }
+    }
+
+    private void clearBook(Long auctionId) {
+        AuctionBidBook book = books.get(auctionId);
+        if (book != null) {
+            book.executor().execute(book::clear);
+        }
+    }
+
+    private CompletableFuture<BidResponse> submit(BidRequest request, Long teamId) {
+        try {
+            AuctionBidBook book = bookFor(resolveAuctionId(request));
+            return CompletableFuture.supplyAsync(() -> accept(book, request, teamId), book.executor());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private AuctionBidBook bookFor(Long auctionId) {
+        return books.computeIfAbsent(auctionId, id -> new AuctionBidBook(id, pool));
+    }
+
+    private Long resolveAuctionId(BidRequest request) {
+        if (request.getAuctionId() != null) {
+            return request.getAuctionId();
+        }
+        Long playerId = request.getPlayerId();
+        Long auctionId = playerAuctions.get(playerId);
+        if (auctionId == null) {
+            auctionId = playerRepository.findAuctionIdById(playerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Player not found with id: " + playerId));
+            playerAuctions.put(playerId, auctionId);
+        }
+        return auctionId;
+    }
+
+    private <T> T await(CompletableFuture<T> ack) {
+        try {
+            return ack.get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Bid could not be processed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out waiting for bid acknowledgement");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for bid acknowledgement");
+        }
+    }
+
+    // Runs on the book's serial executor
+    private BidResponse accept(AuctionBidBook book, BidRequest request, Long teamId) {
+        ensureLoaded(book);
+        LotState lot = lotFor(book, request.getPlayerId());
+        TeamState team = teamFor(book, teamId);
+        long amount = Money.toMinor(request.getAmount());
+
+        if (lot.status == PlayerStatus.SOLD) {
+            throw new IllegalArgumentException("Player is already sold");
+        }
+        long nextValidBid = nextValidBid(book, lot);
+        if (amount < nextValidBid) {
+            throw new IllegalArgumentException("Bid amount must be at least " + Money.format(nextValidBid));
+        }
+        if (lot.leadingTeamId != null && amount <= lot.currentPrice) {
+            throw new IllegalArgumentException("Bid amount must be higher than current price");
+        }
+        long maxAllowableBid = maxAllowableBid(book, team, lot);
+        if (amount > maxAllowableBid) {
+            throw new IllegalArgumentException(
+                    "Bid amount exceeds team's maximum allowable bid of " + Money.format(maxAllowableBid));
+        }
+
+        BidResponse response = applyBid(book, lot, team, amount);
+        resolveProxyBids(book, lot);
+        return response;
+    }
+
+    private BidResponse applyBid(AuctionBidBook book, LotState lot, TeamState team, long amount) {
+        // Move the hold from the previous leader to the new one
+        TeamState previousLeader = lot.holdsReservation() ? book.team(lot.leadingTeamId) : null;
+        if (previousLeader != null) {
+            previousLeader.ledger.refund(lot.currentPrice);
+        }
+        if (!team.ledger.reserve(amount)) {
+            if (previousLeader != null) {
+                previousLeader.ledger.restore(lot.currentPrice);
+            }
+            throw new IllegalArgumentException("Bid amount exceeds team's remaining budget");
+        }
+
+        AcceptedBid accepted = new AcceptedBid(book.getAuctionId(), lot.playerId, team.teamId, amount,
+                LocalDateTime.now(), book.nextSequence());
+        // Journal first: a bid is only acknowledged once it can be recovered
+        bidJournal.append(accepted);
+
+        if (previousLeader != null) {
+            previousLeader.leadingLots--;
+        }
+        team.leadingLots++;
+        lot.currentPrice = amount;
+        lot.leadingTeamId = team.teamId;
+        writeBehindService.enqueue(accepted);
+
+        BidResponse response = toResponse(book, accepted, lot, team);
+        eventPublisher.publishEvent(new BidPlacedEvent(book.getAuctionId(), response));
+        eventPublisher.publishEvent(new PlayerUpdatedEvent(book.getAuctionId(), lot.playerId));
+        startCountdown(book, lot);
+        return response;
+    }
+
+    // Proxy bidding; runs on the book's serial executor
+
+    private ProxyBidResponse registerProxyBid(AuctionBidBook book, Long playerId, Long teamId, long ceiling) {
+        ensureLoaded(book);
+        LotState lot = lotFor(book, playerId);
+        TeamState team = teamFor(book, teamId);
+        if (lot.status == PlayerStatus.SOLD) {
+            throw new IllegalArgumentException("Player is already sold");
+        }
+        long maxAllowableBid = maxAllowableBid(book, team, lot);
+        if (ceiling > maxAllowableBid) {
+            throw new IllegalArgumentException(
+                    "Proxy ceiling exceeds team's maximum allowable bid of " + Money.format(maxAllowableBid));
+        }
+        if (!teamId.equals(lot.leadingTeamId)) {
+            long nextValidBid = nextValidBid(book, lot);
+            if (ceiling < nextValidBid) {
+                throw new IllegalArgumentException("Proxy ceiling must be at least " + Money.format(nextValidBid));
+            }
+        }
+        // Re-registering keeps the team's original place in the tie-break order
+        lot.proxyCeilings.put(teamId, ceiling);
+        resolveProxyBids(book, lot);
+        return toProxyResponse(book, lot, teamId);
+    }
+
+    private ProxyBidResponse cancelProxyBid(AuctionBidBook book, Long playerId, Long teamId) {
+        ensureLoaded(book);
+        LotState lot = lotFor(book, playerId);
+        if (lot.proxyCeilings.remove(teamId) == null) {
+            throw new ResourceNotFoundException("No proxy bid for team " + teamId + " on player " + playerId);
+        }
+        return toProxyResponse(book, lot, teamId);
+    }
+
+    /**
+     * Settles the bidding war between registered ceilings in memory and places
+     * only the bid that comes out on top. The highest ceiling wins, the leader
+     * keeping the lot on a tie and earlier registrations winning ties among
+     * challengers, at the smallest valid raise above the runner-up's ceiling.
+     */
+    private void resolveProxyBids(AuctionBidBook book, LotState lot) {
+        if (lot.proxyCeilings.isEmpty() || lot.status == PlayerStatus.SOLD) {
+            return;
+        }
+        CompiledBidRules rules = bidRuleEngine.rulesFor(book.getAuctionId());
+        long price = lot.currentPrice;
+        Long leader = lot.leadingTeamId;
+        while (true) {
+            long next = rules.nextValidBid(price, leader != null);
+            if (leader != null && next <= price) {
+                // No increment configured, so no proxy can raise
+                break;
+            }
+            Long challenger = null;
+            long challengerCeiling = -1;
+            for (Long teamId : lot.proxyCeilings.keySet()) {
+                if (teamId.equals(leader)) {
+                    continue;
+                }
+                long ceiling = proxyCeiling(book, lot, teamId);
+                if (ceiling >= next && ceiling > challengerCeiling) {
+                    challenger = teamId;
+                    challengerCeiling = ceiling;
+                }
+            }
+            if (challenger == null) {
+                break;
+            }
+            long leaderCeiling = leader != null ? proxyCeiling(book, lot, leader) : -1;
+            if (leaderCeiling >= challengerCeiling) {
+                // Every other ceiling is at or below the challenger's, so the leader's answer settles it
+                price = Math.min(leaderCeiling, rules.nextValidBid(challengerCeiling, true));
+                break;
+            }
+            // The challenger takes over just above whatever the leader could still offer
+            price = leaderCeiling >= next ? Math.min(challengerCeiling, rules.nextValidBid(leaderCeiling, true))
+                    : next;
+            leader = challenger;
+        }
+        if (leader != null && (!leader.equals(lot.leadingTeamId) || price > lot.currentPrice)) {
+            applyBid(book, lot, book.team(leader), price);
+        }
+    }
+
+    /** A team's proxy ceiling on the lot capped by what it may spend, or -1 without one. */
+    private static long proxyCeiling(AuctionBidBook book, LotState lot, Long teamId) {
+        Long ceiling = lot.proxyCeilings.get(teamId);
+        TeamState team = book.team(teamId);
+        if (ceiling == null || team == null) {
+            return -1;
+        }
+        return Math.min(ceiling, maxAllowableBid(book, team, lot));
+    }
+
+    /**
+     * Largest bid a team may make on {@code lot} (or on a fresh lot when
+     * {@code null}) while keeping enough to fill every other open squad slot at
+     * the base price. Its free budget counts, plus its own hold on the lot.
+     * Lots it leads elsewhere count as filled slots because their price is
+     * already held. O(1) from the book's counters.
+     */
+    private static long maxAllowableBid(AuctionBidBook book, TeamState team, LotState lot) {
+        boolean leadsLot = lot != null && lot.holdsReservation() && team.teamId.equals(lot.leadingTeamId);
+        long spendable = team.ledger.available() + (leadsLot ? lot.currentPrice : 0);
+        if (book.getPlayersPerTeam() <= 0) {
+            return spendable;
+        }
+        int otherSlotsToFill = openSlots(book, team) + (leadsLot ? 1 : 0) - 1;
+        if (otherSlotsToFill < 0) {
+            return 0;
+        }
+        return Math.max(0, spendable - book.getBasePrice() * otherSlotsToFill);
+    }
+
+    private static int openSlots(AuctionBidBook book, TeamState team) {
+        return book.getPlayersPerTeam() - team.playersCount - team.leadingLots;
+    }
+
+    private List<TeamBidLimitResponse> teamLimits(AuctionBidBook book) {
+        List<TeamBidLimitResponse> limits = new ArrayList<>();
+        for (TeamState team : book.teams()) {
+            TeamBidLimitResponse limit = new TeamBidLimitResponse();
+            limit.setTeamId(team.teamId);
+            limit.setRemainingBudget(Money.toMajor(team.ledger.remaining()));
+            limit.setReservedBudget(Money.toMajor(team.ledger.reserved()));
+            limit.setOpenSlots(book.getPlayersPerTeam() > 0 ? Math.max(0, openSlots(book, team)) : null);
+            limit.setMaxAllowableBid(Money.toMajor(maxAllowableBid(book, team, null)));
+            limits.add(limit);
+        }
+        return limits;
+    }
+
+    private ProxyBidResponse toProxyResponse(AuctionBidBook book, LotState lot, Long teamId) {
+        ProxyBidResponse response = new ProxyBidResponse();
+        response.setAuctionId(book.getAuctionId());
+        response.setPlayerId(lot.playerId);
+        response.setTeamId(teamId);
+        Long ceiling = lot.proxyCeilings.get(teamId);
+        response.setCeiling(ceiling != null ? Money.toMajor(ceiling) : null);
+        response.setCurrentPrice(Money.toMajor(lot.currentPrice));
+        response.setLeadingTeamId(lot.leadingTeamId);
+        return response;
+    }
+
+    // Countdown handling; everything below runs on the book's serial executor
+
+    private void startCountdown(AuctionBidBook book, LotState lot) {
+        lot.phase = LotPhase.OPEN;
+        scheduleNextPhase(book, lot, goingOnceMs);
+    }
+
+    private void scheduleNextPhase(AuctionBidBook book, LotState lot, long delayMs) {
+        lot.cancelCountdown();
+        long generation = lot.generation;
+        Long playerId = lot.playerId;
+        lot.deadlineMillis = System.currentTimeMillis() + delayMs;
+        lot.countdown = lotTimer.schedule(
+                () -> book.executor().execute(() -> advance(book, playerId, generation)),
+                delayMs, TimeUnit.MILLISECONDS);
+        publishCountdown(book, lot);
+    }
+
+    private void advance(AuctionBidBook book, Long playerId, long generation) {
+        ensureLoaded(book);
+        LotState lot = book.lot(playerId);
+        if (lot == null || lot.generation != generation) {
+            // Superseded by a later bid, a manual close or a reload that dropped the lot
+            return;
+        }
+        switch (lot.phase) {
+            case OPEN -> {
+                lot.phase = LotPhase.GOING_ONCE;
+                scheduleNextPhase(book, lot, goingTwiceMs);
+            }
+            case GOING_ONCE -> {
+                lot.phase = LotPhase.GOING_TWICE;
+                scheduleNextPhase(book, lot, soldMs);
+            }
+            case GOING_TWICE -> close(book, lot);
+            default -> {
+            }
+        }
+    }
+
+    private void close(AuctionBidBook book, LotState lot) {
+        lot.cancelCountdown();
+        TeamState winner = lot.leadingTeamId != null ? book.team(lot.leadingTeamId) : null;
+        LotClosed closed = new LotClosed(book.getAuctionId(), lot.playerId,
+                winner != null ? winner.teamId : null, lot.currentPrice, LocalDateTime.now(), book.nextSequence());
+        bidJournal.append(closed);
+
+        lot.phase = LotPhase.CLOSED;
+        lot.proxyCeilings.clear();
+        if (winner != null) {
+            lot.status = PlayerStatus.SOLD;
+            winner.ledger.commit(lot.currentPrice);
+            winner.leadingLots--;
+            winner.pointsUsed += Money.toPoints(lot.currentPrice);
+            winner.playersCount++;
+        } else {
+            lot.status = PlayerStatus.UNSOLD;
+            lot.leadingTeamId = null;
+        }
+        writeBehindService.enqueue(closed);
+
+        LotCountdownResponse countdown = toCountdown(book, lot);
+        countdown.setTeamLimits(teamLimits(book));
+        eventPublisher.publishEvent(new LotCountdownEvent(book.getAuctionId(), countdown));
+        eventPublisher.publishEvent(new PlayerUpdatedEvent(book.getAuctionId(), lot.playerId));
+        if (winner != null) {
+            eventPublisher.publishEvent(new TeamUpdatedEvent(book.getAuctionId(), winner.teamId));
+        }
+    }
+
+    private void publishCountdown(AuctionBidBook book, LotState lot) {
+        eventPublisher.publishEvent(new LotCountdownEvent(book.getAuctionId(), toCountdown(book, lot)));
+    }
+
+    private LotCountdownResponse toCountdown(AuctionBidBook book, LotState lot) {
+        LotCountdownResponse countdown = new LotCountdownResponse();
+        countdown.setAuctionId(book.getAuctionId());
+        countdown.setPlayerId(lot.playerId);
+        countdown.setPhase(lot.phase.name());
+        countdown.setStatus(lot.status.name());
+        countdown.setCurrentPrice(Money.toMajor(lot.currentPrice));
+        countdown.setLeadingTeamId(lot.leadingTeamId);
+        countdown.setDeadline(lot.isLive() ? lot.deadlineMillis : null);
+        countdown.setServerTime(System.currentTimeMillis());
+        if (lot.status != PlayerStatus.SOLD) {
+            countdown.setNextValidBid(Money.toMajor(nextValidBid(book, lot)));
+        }
+        return countdown;
+    }
+
+    private long nextValidBid(AuctionBidBook book, LotState lot) {
+        return bidRuleEngine.rulesFor(book.getAuctionId()).nextValidBid(lot.currentPrice, lot.leadingTeamId != null);
+    }
+
+    private void ensureLoaded(AuctionBidBook book) {
+        if (book.isLoaded()) {
+            return;
+        }
+        // Make sure the database reflects every bid this book accepted before reloading it
+        writeBehindService.flushNow();
+        readOnlyTransaction.executeWithoutResult(status -> book.load(
+                auctionRepository.findById(book.getAuctionId()).orElseThrow(
+                        () -> new ResourceNotFoundException("Auction not found with id: " + book.getAuctionId())),
+                playerRepository.findByAuctionIdWithCurrentBid(book.getAuctionId()),
+                teamRepository.findByAuctionId(book.getAuctionId()),
+                writeBehindService.persistedSequence(book.getAuctionId())));
+        logger.debug("Loaded bid book for auction {}", book.getAuctionId());
+    }
+
+    private LotState lotFor(AuctionBidBook book, Long playerId) {
+        LotState lot = book.lot(playerId);
+        if (lot != null) {
+            return lot;
+        }
+        // Players registered after the book was loaded are picked up lazily
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Player player = playerRepository.findById(playerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Player not found with id: " + playerId));
+            if (!player.getAuction().getId().equals(book.getAuctionId())) {
+                throw new ResourceNotFoundException("Player not found in auction with id: " + book.getAuctionId());
+            }
+            book.putLot(player);
+        });
+        return book.lot(playerId);
+    }
+
+    private TeamState teamFor(AuctionBidBook book, Long teamId) {
+        TeamState team = book.team(teamId);
+        if (team != null) {
+            return team;
+        }
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Team entity = teamRepository.findById(teamId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + teamId));
+            if (!entity.getAuction().getId().equals(book.getAuctionId())) {
+                throw new ResourceNotFoundException("Team not found in auction with id: " + book.getAuctionId());
+            }
+            book.putTeam(entity);
+        });
+        return book.team(teamId);
+    }
+
+    private BidResponse toResponse(AuctionBidBook book, AcceptedBid accepted, LotState lot, TeamState team) {
+        BidResponse response = new BidResponse();
+        response.setPlayerId(lot.playerId);
+        response.setPlayerName(lot.playerName);
+        response.setTeamId(team.teamId);
+        response.setTeamName(team.teamName);
+        response.setAmount(Money.toMajor(accepted.amount()));
+        response.setTimestamp(accepted.timestamp());
+        response.setIsWinningBid(true);
+        response.setSequence(accepted.sequence());
+        response.setNextValidBid(Money.toMajor(nextValidBid(book, lot)));
+        response.setTeamLimits(teamLimits(book));
+        return response;
+    }
+}
@@ -0,0 +1,16 @@
+package com.auction.cricket.service;
+
+import java.util.Map;
+
+import com.auction.cricket.entity.PlayerStatus;
+
+/**
+ * Lot and budget state of an auction's bid book, read on the book's executor
+ * together with the delta version it corresponds to. Amounts are in major
+ * units.
+ */
+public record BidBookSnapshot(long version, Map<Long, Lot> lots, Map<Long, Double> remainingBudgets) {
+
+    public record Lot(PlayerStatus status, double currentPrice, Long leadingTeamId, String leadingTeamName) {
+    }
+}
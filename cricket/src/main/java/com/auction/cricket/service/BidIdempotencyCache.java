@@ -0,0 +1,85 @@
+package com.auction.cricket.service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auction.cricket.dto.BidResponse;
+
+/**
+ * Remembers the outcome of recently submitted bids by client idempotency key,
+ * so a retried submission is answered with the original acknowledgement
+ * instead of being placed again. Entries expire after a fixed time and the
+ * table never holds more than a fixed number of keys.
+ */
+@Component
+public class BidIdempotencyCache {
+
+    private record Entry(String key, CompletableFuture<BidResponse> result, long createdAtNanos) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    public BidIdempotencyCache(
+            @Value("${app.bidding.idempotency.max-entries:50000}") int maxEntries,
+            @Value("${app.bidding.idempotency.ttl-seconds:300}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * Registers {@code pending} under the key and returns null, or returns the
+     * result already registered by an earlier submission with the same key.
+     */
+    public CompletableFuture<BidResponse> putIfAbsent(Long teamId, String idempotencyKey,
+            CompletableFuture<BidResponse> pending) {
+        long now = System.nanoTime();
+        evict(now);
+        String key = teamId + ":" + idempotencyKey;
+        Entry candidate = new Entry(key, pending, now);
+        Entry existing = entries.putIfAbsent(key, candidate);
+        if (existing == null) {
+            insertionOrder.add(candidate);
+            return null;
+        }
+        if (isExpired(existing, now)) {
+            entries.replace(key, existing, candidate);
+            insertionOrder.add(candidate);
+            return null;
+        }
+        return existing.result();
+    }
+
+    /** Forgets a key whose bid was rejected, so the client may try again. */
+    public void remove(Long teamId, String idempotencyKey, CompletableFuture<BidResponse> pending) {
+        String key = teamId + ":" + idempotencyKey;
+        Entry entry = entries.get(key);
+        if (entry != null && entry.result() == pending) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private void evict(long now) {
+        Entry head;
+        while ((head = insertionOrder.peek()) != null
+                && (isExpired(head, now) || entries.size() > maxEntries)) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest != null) {
+                entries.remove(oldest.key(), oldest);
+            }
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.createdAtNanos() > ttlNanos;
+    }
+}
@@ -0,0 +1,387 @@
+package com.auction.cricket.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auction.cricket.util.Money;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Append-only log of accepted bids and lot closes, written to memory-mapped
+ * segment files before they are acknowledged. On startup any journaled entry
+ * that never made it into the database is handed back to the write-behind
+ * queue. A finished segment is deleted only once the database holds every
+ * entry in it.
+ */
+@Component
+public class BidJournal {
+    private static final Logger logger = LoggerFactory.getLogger(BidJournal.class);
+
+    public enum FsyncPolicy {
+        /** Leave flushing to the operating system. Survives a JVM crash, not a power loss. */
+        NONE,
+        /** Force every record to disk before returning. */
+        EVERY_WRITE,
+        /** Force dirty pages from a background thread at a fixed interval. */
+        INTERVAL
+    }
+
+    static final int MAGIC = 0x424A524E;
+    static final int FORMAT_VERSION = 3;
+    static final int HEADER_SIZE = 16;
+    // type, auctionId, playerId, teamId, amount in minor units, timestamp, sequence, crc
+    static final int RECORD_SIZE = 4 + 8 + 8 + 8 + 8 + 8 + 8 + 4;
+    // Older segments are still read so that an upgrade can replay them: version 1
+    // has no type (bids only) and versions 1 and 2 store the amount as a major-unit double
+    static final int V1_RECORD_SIZE = 8 + 8 + 8 + 8 + 8 + 8 + 4;
+    private static final int TYPE_BID = 1;
+    private static final int TYPE_LOT_CLOSED = 2;
+    private static final int PAYLOAD_SIZE = RECORD_SIZE - 4;
+    private static final String SEGMENT_PREFIX = "bids-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final BidWriteBehindService writeBehindService;
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final long pruneIntervalMs;
+    private final CRC32 crc = new CRC32();
+    private final Queue<RetiredSegment> retired = new ConcurrentLinkedQueue<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentNumber;
+    // Last sequence per auction written to the open segment
+    private Map<Long, Long> lastSequences = new HashMap<>();
+    private volatile boolean dirty;
+    private volatile boolean running;
+    private Thread syncer;
+    private ScheduledExecutorService pruner;
+
+    public BidJournal(BidWriteBehindService writeBehindService,
+            @Value("${app.bidding.journal.enabled:true}") boolean enabled,
+            @Value("${app.bidding.journal.directory:./data/bid-journal}") String directory,
+            @Value("${app.bidding.journal.segment-size-bytes:67108864}") int segmentSize,
+            @Value("${app.bidding.journal.fsync:INTERVAL}") FsyncPolicy fsyncPolicy,
+            @Value("${app.bidding.journal.fsync-interval-ms:10}") long fsyncIntervalMs,
+            @Value("${app.bidding.journal.prune-interval-ms:5000}") long pruneIntervalMs) {
+        this.writeBehindService = writeBehindService;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSize = Math.max(segmentSize, HEADER_SIZE + RECORD_SIZE);
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMs);
+        this.pruneIntervalMs = pruneIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        List<Path> segments = listSegments();
+        replay(segments);
+        // Segments whose entries could not all be persisted stay for the next start
+        pruneRetired();
+        if (!retired.isEmpty()) {
+            logger.warn("Keeping {} bid journal segments with entries missing from the database", retired.size());
+        }
+        segmentNumber = segments.isEmpty() ? 0 : segmentNumberOf(segments.get(segments.size() - 1)) + 1;
+        openSegment();
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            running = true;
+            syncer = new Thread(this::syncLoop, "bid-journal-sync");
+            syncer.setDaemon(true);
+            syncer.start();
+        }
+        pruner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bid-journal-prune");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pruner.scheduleWithFixedDelay(this::pruneRetired, pruneIntervalMs, pruneIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        if (pruner != null) {
+            pruner.shutdownNow();
+        }
+        if (syncer != null) {
+            LockSupport.unpark(syncer);
+        }
+        synchronized (this) {
+            if (segment != null) {
+                segment.force();
+            }
+            closeChannel();
+        }
+    }
+
+    /**
+     * Appends an entry to the journal. Once this returns the entry survives a
+     * JVM crash; how it fares against power loss depends on the fsync policy.
+     */
+    public synchronized void append(BidBookEntry entry) {
+        if (!enabled) {
+            return;
+        }
+        if (segment.remaining() < RECORD_SIZE) {
+            roll();
+        }
+        int start = segment.position();
+        switch (entry) {
+            case AcceptedBid bid -> putRecord(TYPE_BID, bid.auctionId(), bid.playerId(), bid.teamId(),
+                    bid.amount(), bid.timestamp(), bid.sequence());
+            case LotClosed closed -> putRecord(TYPE_LOT_CLOSED, closed.auctionId(), closed.playerId(),
+                    closed.teamId(), closed.amount(), closed.timestamp(), closed.sequence());
+        }
+        crc.reset();
+        crc.update(segment.slice(start, PAYLOAD_SIZE));
+        segment.putInt((int) crc.getValue());
+        lastSequences.merge(entry.auctionId(), entry.sequence(), Math::max);
+
+        if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) {
+            segment.force(start, RECORD_SIZE);
+        } else {
+            dirty = true;
+        }
+    }
+
+    private void putRecord(int type, Long auctionId, Long playerId, Long teamId, long amount,
+            LocalDateTime timestamp, long sequence) {
+        segment.putInt(type);
+        segment.putLong(auctionId);
+        segment.putLong(playerId);
+        // Ids start at 1, so 0 stands for "no team"
+        segment.putLong(teamId != null ? teamId : 0L);
+        segment.putLong(amount);
+        segment.putLong(toEpochMillis(timestamp));
+        segment.putLong(sequence);
+    }
+
+    private void replay(List<Path> segments) throws IOException {
+        Map<Long, Long> durableSequences = new HashMap<>();
+        int replayed = 0;
+        for (Path path : segments) {
+            List<BidBookEntry> entries;
+            try {
+                entries = readSegment(path);
+            } catch (IllegalStateException e) {
+                // Left on disk and out of the prune list for a version that can read it
+                logger.error("Not replaying bid journal segment {}", path, e);
+                continue;
+            }
+            Map<Long, Long> segmentSequences = new HashMap<>();
+            Map<Long, Long> firstSequences = new HashMap<>();
+            for (BidBookEntry entry : entries) {
+                segmentSequences.merge(entry.auctionId(), entry.sequence(), Math::max);
+                firstSequences.merge(entry.auctionId(), entry.sequence(), Math::min);
+            }
+            // Nothing is queued yet, so the durable sequence is the database's highest
+            // and a write that failed before the restart can hide below it
+            Map<Long, Set<Long>> persistedBelow = new HashMap<>();
+            for (Map.Entry<Long, Long> first : firstSequences.entrySet()) {
+                long durable = durableSequences.computeIfAbsent(first.getKey(), writeBehindService::durableSequence);
+                if (first.getValue() <= durable) {
+                    persistedBelow.put(first.getKey(),
+                            writeBehindService.persistedSequences(first.getKey(), first.getValue(), durable));
+                }
+            }
+            for (BidBookEntry entry : entries) {
+                Set<Long> persisted = persistedBelow.get(entry.auctionId());
+                if (persisted == null || !persisted.contains(entry.sequence())) {
+                    writeBehindService.enqueue(entry);
+                    replayed++;
+                }
+            }
+            retired.add(new RetiredSegment(path, segmentSequences));
+        }
+        if (replayed > 0) {
+            writeBehindService.flushNow();
+            logger.info("Replayed {} journaled entries missing from the database", replayed);
+        }
+    }
+
+    List<BidBookEntry> readSegment(Path path) throws IOException {
+        List<BidBookEntry> entries = new ArrayList<>();
+        try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                logger.warn("Skipping {}: not a bid journal segment", path);
+                return entries;
+            }
+            int version = buffer.getInt();
+            if (version < 1 || version > FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported bid journal format " + version + " in " + path);
+            }
+            int recordSize = version == 1 ? V1_RECORD_SIZE : RECORD_SIZE;
+            int payloadSize = recordSize - 4;
+            buffer.position(HEADER_SIZE);
+            CRC32 checksum = new CRC32();
+            while (buffer.remaining() >= recordSize) {
+                int start = buffer.position();
+                checksum.reset();
+                checksum.update(buffer.slice(start, payloadSize));
+                int expected = buffer.getInt(start + payloadSize);
+                if ((int) checksum.getValue() != expected) {
+                    // Unwritten space or a torn final write marks the end of the segment
+                    break;
+                }
+                int type = version == 1 ? TYPE_BID : buffer.getInt();
+                long auctionId = buffer.getLong();
+                long playerId = buffer.getLong();
+                long teamId = buffer.getLong();
+                long amount = version >= 3 ? buffer.getLong() : Money.toMinor(buffer.getDouble());
+                LocalDateTime timestamp = fromEpochMillis(buffer.getLong());
+                long sequence = buffer.getLong();
+                if (type == TYPE_BID) {
+                    entries.add(new AcceptedBid(auctionId, playerId, teamId, amount, timestamp, sequence));
+                } else {
+                    entries.add(new LotClosed(auctionId, playerId, teamId != 0 ? teamId : null, amount,
+                            timestamp, sequence));
+                }
+                buffer.position(start + recordSize);
+            }
+        }
+        return entries;
+    }
+
+    private void roll() {
+        segment.force();
+        closeChannel();
+        // The write-behind may not have persisted the finished segment yet, so
+        // it is deleted later by pruneRetired rather than here on the bid path
+        retired.add(new RetiredSegment(segmentPath(segmentNumber), Map.copyOf(lastSequences)));
+        lastSequences = new HashMap<>();
+        segmentNumber++;
+        try {
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open bid journal segment", e);
+        }
+    }
+
+    /**
+     * Deletes finished segments whose every entry is covered by the durable
+     * sequence of its auction, so a failed write keeps its segment even when
+     * later entries have been persisted.
+     */
+    void pruneRetired() {
+        Map<Long, Long> durableSequences = new HashMap<>();
+        try {
+            for (Iterator<RetiredSegment> it = retired.iterator(); it.hasNext();) {
+                RetiredSegment finished = it.next();
+                boolean persisted = finished.lastSequences().entrySet().stream()
+                        .allMatch(last -> durableSequences.computeIfAbsent(last.getKey(),
+                                writeBehindService::durableSequence) >= last.getValue());
+                if (persisted) {
+                    Files.deleteIfExists(finished.path());
+                    it.remove();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not prune bid journal segments", e);
+        }
+    }
+
+    private void openSegment() throws IOException {
+        channel = FileChannel.open(segmentPath(segmentNumber), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.putInt(MAGIC);
+        segment.putInt(FORMAT_VERSION);
+        segment.putLong(segmentNumber);
+        segment.force();
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Could not close bid journal segment", e);
+        }
+    }
+
+    private void syncLoop() {
+        while (running) {
+            LockSupport.parkNanos(fsyncIntervalNanos);
+            if (dirty) {
+                dirty = false;
+                MappedByteBuffer current;
+                synchronized (this) {
+                    current = segment;
+                }
+                current.force();
+            }
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static long segmentNumberOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime fromEpochMillis(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private record RetiredSegment(Path path, Map<Long, Long> lastSequences) {
+    }
+}
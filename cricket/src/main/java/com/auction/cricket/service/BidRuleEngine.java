@@ -0,0 +1,77 @@
+package com.auction.cricket.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.cricket.entity.Auction;
+import com.auction.cricket.exception.ResourceNotFoundException;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.repository.BidRuleRepository;
+import com.auction.cricket.util.Money;
+
+/**
+ * Compiles each auction's bid rules once into a {@link CompiledBidRules}
+ * lookup and serves it from memory until the rules or the auction change.
+ */
+@Service
+public class BidRuleEngine {
+
+    private final BidRuleRepository bidRuleRepository;
+    private final AuctionRepository auctionRepository;
+    private final Map<Long, Entry> compiled = new ConcurrentHashMap<>();
+
+    public BidRuleEngine(BidRuleRepository bidRuleRepository, AuctionRepository auctionRepository) {
+        this.bidRuleRepository = bidRuleRepository;
+        this.auctionRepository = auctionRepository;
+    }
+
+    public CompiledBidRules rulesFor(Long auctionId) {
+        Entry entry = compiled.get(auctionId);
+        if (entry != null && entry.rules() != null) {
+            return entry.rules();
+        }
+        long version = entry == null ? 0 : entry.version();
+        CompiledBidRules rules = compile(auctionId);
+        // Cache only if no invalidation ran while compiling; otherwise the
+        // rules may have been read before the edit committed
+        compiled.compute(auctionId, (id, current) -> {
+            long currentVersion = current == null ? 0 : current.version();
+            return currentVersion == version ? new Entry(version, rules) : current;
+        });
+        return rules;
+    }
+
+    /** Drops the compiled rules for an auction once the current transaction commits. */
+    public void invalidate(Long auctionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    drop(auctionId);
+                }
+            });
+        } else {
+            drop(auctionId);
+        }
+    }
+
+    /** Leaves a tombstone with a newer version so that a compile already in flight is not cached. */
+    private void drop(Long auctionId) {
+        compiled.compute(auctionId, (id, current) -> new Entry(current == null ? 1 : current.version() + 1, null));
+    }
+
+    private CompiledBidRules compile(Long auctionId) {
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Auction not found with id: " + auctionId));
+        return new CompiledBidRules(bidRuleRepository.findByAuctionIdOrderByThresholdAmountAsc(auctionId),
+                Money.toMinor(auction.getBidIncreaseBy()), Money.toMinor(auction.getMinimumBid()));
+    }
+
+    /** Compiled rules, or null after an invalidation, with the number of invalidations seen. */
+    private record Entry(long version, CompiledBidRules rules) {
+    }
+}
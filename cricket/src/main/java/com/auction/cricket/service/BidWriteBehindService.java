@@ -0,0 +1,316 @@
+package com.auction.cricket.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.auction.cricket.entity.Bid;
+import com.auction.cricket.entity.Player;
+import com.auction.cricket.entity.PlayerStatus;
+import com.auction.cricket.entity.Team;
+import com.auction.cricket.exception.ResourceNotFoundException;
+import com.auction.cricket.repository.BidRepository;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.TeamRepository;
+import com.auction.cricket.util.Money;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Persists bids and lot closes from the in-memory bid books in batches, off
+ * the bidding path. The JPA entities are a durable projection of the books.
+ */
+@Service
+public class BidWriteBehindService {
+    private static final Logger logger = LoggerFactory.getLogger(BidWriteBehindService.class);
+
+    private final BidRepository bidRepository;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final TeamStatsCache teamStatsCache;
+    private final BlockingQueue<BidBookEntry> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long retryBackoffNanos;
+    private final long maxRetryBackoffNanos;
+    private final Object flushLock = new Object();
+    // Entries whose write failed, retried with backoff; guarded by flushLock
+    private final Deque<Parked> parked = new ArrayDeque<>();
+    // Sequences queued or parked but not yet written, per auction
+    private final Map<Long, NavigableSet<Long>> unpersisted = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public BidWriteBehindService(BidRepository bidRepository, PlayerRepository playerRepository,
+            TeamRepository teamRepository, OptimisticRetryExecutor optimisticRetryExecutor,
+            TeamStatsCache teamStatsCache,
+            @Value("${app.bidding.write-behind.batch-size:200}") int batchSize,
+            @Value("${app.bidding.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+            @Value("${app.bidding.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.bidding.write-behind.retry-backoff-ms:500}") long retryBackoffMs,
+            @Value("${app.bidding.write-behind.max-retry-backoff-ms:30000}") long maxRetryBackoffMs) {
+        this.bidRepository = bidRepository;
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.optimisticRetryExecutor = optimisticRetryExecutor;
+        this.teamStatsCache = teamStatsCache;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.retryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(retryBackoffMs);
+        this.maxRetryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(maxRetryBackoffMs, retryBackoffMs));
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::run, "bid-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushNow();
+    }
+
+    public void enqueue(BidBookEntry entry) {
+        unpersisted.compute(entry.auctionId(), (auctionId, sequences) -> {
+            NavigableSet<Long> pending = sequences != null ? sequences : new ConcurrentSkipListSet<>();
+            pending.add(entry.sequence());
+            return pending;
+        });
+        try {
+            // Blocks the bidding thread only when the database has fallen far behind
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing bid for persistence", e);
+        }
+        if (queue.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Highest sequence of any book entry already in the database for an auction.
+     * Entries below it may still be queued or waiting on a retry.
+     */
+    public long persistedSequence(Long auctionId) {
+        return Math.max(bidRepository.findMaxSequenceByAuctionId(auctionId),
+                playerRepository.findMaxClosedSequenceByAuctionId(auctionId));
+    }
+
+    /**
+     * Highest sequence up to which every entry this service was handed for an
+     * auction is in the database. Unlike {@link #persistedSequence} it stops
+     * below the oldest entry still queued or waiting on a retry.
+     */
+    public long durableSequence(Long auctionId) {
+        // Read the database first: anything it holds was queued before it was written
+        long persisted = persistedSequence(auctionId);
+        NavigableSet<Long> pending = unpersisted.get(auctionId);
+        Long oldest = pending != null ? pending.ceiling(Long.MIN_VALUE) : null;
+        return oldest != null ? Math.min(persisted, oldest - 1) : persisted;
+    }
+
+    /**
+     * Sequences between {@code from} and {@code to} inclusive that are in the
+     * database for an auction, as bids or lot closes.
+     */
+    public Set<Long> persistedSequences(Long auctionId, long from, long to) {
+        Set<Long> sequences = new HashSet<>(bidRepository.findSequencesByAuctionIdBetween(auctionId, from, to));
+        sequences.addAll(playerRepository.findClosedSequencesByAuctionIdBetween(auctionId, from, to));
+        return sequences;
+    }
+
+    /**
+     * Synchronously writes every queued bid and retries every failed one. Used
+     * before reloading a bid book so the reload sees all bids accepted so far.
+     */
+    public void flushNow() {
+        synchronized (flushLock) {
+            retryParked(true);
+            while (drainAndPersist() > 0) {
+                // keep draining in batch-sized chunks
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(flushIntervalNanos);
+            try {
+                synchronized (flushLock) {
+                    retryParked(false);
+                    while (drainAndPersist() == batchSize) {
+                        // a full batch means more are likely waiting
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.error("Write-behind flush failed", e);
+            }
+        }
+    }
+
+    private int drainAndPersist() {
+        List<BidBookEntry> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (!batch.isEmpty()) {
+            persistBatch(batch);
+        }
+        return batch.size();
+    }
+
+    private void persistBatch(List<BidBookEntry> batch) {
+        try {
+            optimisticRetryExecutor.run("bid.writeBehind", () -> batch.forEach(this::apply));
+            batch.forEach(this::persisted);
+        } catch (RuntimeException e) {
+            logger.warn("Write-behind batch of {} bids failed, retrying one by one", batch.size(), e);
+            for (BidBookEntry entry : batch) {
+                if (!persistOne(entry, 1)) {
+                    parked.add(new Parked(entry, 1, System.nanoTime() + retryBackoffNanos));
+                }
+            }
+        }
+    }
+
+    /**
+     * Retries failed entries whose backoff has elapsed, or all of them when
+     * forced. Each failure doubles the entry's backoff up to the configured cap.
+     */
+    private void retryParked(boolean force) {
+        long now = System.nanoTime();
+        List<Parked> stillFailing = new ArrayList<>();
+        for (Iterator<Parked> it = parked.iterator(); it.hasNext();) {
+            Parked failed = it.next();
+            if (!force && failed.retryAtNanos() - now > 0) {
+                continue;
+            }
+            it.remove();
+            int attempts = failed.attempts() + 1;
+            if (!persistOne(failed.entry(), attempts)) {
+                long backoff = Math.min(retryBackoffNanos << Math.min(attempts - 1, 20), maxRetryBackoffNanos);
+                stillFailing.add(new Parked(failed.entry(), attempts, now + backoff));
+            }
+        }
+        parked.addAll(stillFailing);
+    }
+
+    /** Writes a single entry, returning false if it should be retried later. */
+    private boolean persistOne(BidBookEntry entry, int attempt) {
+        try {
+            optimisticRetryExecutor.run("bid.writeBehind", () -> apply(entry));
+        } catch (ResourceNotFoundException e) {
+            // The player or team was deleted since, so there is nothing left to write to
+            logger.info("Skipping bid book entry {} for a deleted row: {}", entry, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Failed to persist bid book entry {} (attempt {}), will retry", entry, attempt, e);
+            return false;
+        }
+        persisted(entry);
+        return true;
+    }
+
+    private void persisted(BidBookEntry entry) {
+        unpersisted.computeIfPresent(entry.auctionId(), (auctionId, sequences) -> {
+            sequences.remove(entry.sequence());
+            return sequences.isEmpty() ? null : sequences;
+        });
+        // Sales only reach the database here, well after the lot-closed events
+        if (entry instanceof LotClosed closed) {
+            teamStatsCache.invalidate(closed.auctionId());
+        }
+    }
+
+    private void apply(BidBookEntry entry) {
+        switch (entry) {
+            case AcceptedBid bid -> applyBid(bid);
+            case LotClosed closed -> applyClose(closed);
+        }
+    }
+
+    private void applyBid(AcceptedBid accepted) {
+        Player player = playerRepository.findById(accepted.playerId())
+                .orElseThrow(() -> new ResourceNotFoundException("Player not found with id: " + accepted.playerId()));
+        Team team = teamRepository.findById(accepted.teamId())
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + accepted.teamId()));
+
+        // Keyed lookup through the player's pointer instead of sorting its bid history
+        Bid previousWinningBid = player.getCurrentBid();
+        // A retried bid can land after later bids on the same lot; it must not take their place
+        boolean latest = previousWinningBid == null || previousWinningBid.getSequence() == null
+                || previousWinningBid.getSequence() < accepted.sequence();
+        if (previousWinningBid != null && latest) {
+            previousWinningBid.setIsWinningBid(false);
+        }
+
+        Bid bid = new Bid();
+        bid.setPlayer(player);
+        bid.setTeam(team);
+        bid.setAmount(Money.toMajor(accepted.amount()));
+        bid.setTimestamp(accepted.timestamp() != null ? accepted.timestamp() : LocalDateTime.now());
+        bid.setIsWinningBid(latest);
+        bid.setSequence(accepted.sequence());
+        bidRepository.save(bid);
+
+        if (!latest) {
+            return;
+        }
+        player.setCurrentBid(bid);
+        player.setCurrentPrice(Money.toMajor(accepted.amount()));
+    }
+
+    private void applyClose(LotClosed closed) {
+        Player player = playerRepository.findById(closed.playerId())
+                .orElseThrow(() -> new ResourceNotFoundException("Player not found with id: " + closed.playerId()));
+        player.setClosedSequence(closed.sequence());
+        if (closed.teamId() == null) {
+            player.setStatus(PlayerStatus.UNSOLD);
+            return;
+        }
+        Team team = teamRepository.findById(closed.teamId())
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + closed.teamId()));
+        player.setCurrentPrice(Money.toMajor(closed.amount()));
+        player.setTeam(team);
+        player.setStatus(PlayerStatus.SOLD);
+
+        // Apply deltas rather than the book's absolute values so edits made
+        // through the REST services in the meantime are not overwritten
+        team.setRemainingBudget(Money.toMajor(Money.toMinor(team.getRemainingBudget()) - closed.amount()));
+        team.setPointsUsed(team.getPointsUsed() + Money.toPoints(closed.amount()));
+        team.setPlayersCount(team.getPlayersCount() + 1);
+    }
+
+    private record Parked(BidBookEntry entry, int attempts, long retryAtNanos) {
+    }
+}
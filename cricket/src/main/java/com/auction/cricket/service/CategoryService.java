@@ -93,7 +93,7 @@ public class CategoryService {
         categoryRepository.delete(category);
     }
 
-    private CategoryResponse convertToResponse(Category category) {
+    CategoryResponse convertToResponse(Category category) {
         CategoryResponse response = new CategoryResponse();
         response.setId(category.getId());
         response.setName(category.getName());
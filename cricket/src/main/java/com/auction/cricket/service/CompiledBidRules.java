@@ -0,0 +1,63 @@
+package com.auction.cricket.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.auction.cricket.entity.BidRule;
+import com.auction.cricket.util.Money;
+
+/**
+ * Immutable, pre-sorted view of an auction's bid increment rules, in minor
+ * units. A rule applies from its threshold upwards until the next threshold;
+ * below the first threshold the auction's default increment applies.
+ */
+public final class CompiledBidRules {
+
+    private final long[] thresholds;
+    private final long[] increments;
+    private final long defaultIncrement;
+    private final long minimumBid;
+
+    CompiledBidRules(List<BidRule> rulesByThreshold, long defaultIncrement, long minimumBid) {
+        int size = rulesByThreshold.size();
+        this.thresholds = new long[size];
+        this.increments = new long[size];
+        for (int i = 0; i < size; i++) {
+            BidRule rule = rulesByThreshold.get(i);
+            thresholds[i] = Money.toMinor(rule.getThresholdAmount());
+            increments[i] = Money.toMinor(rule.getIncrementAmount());
+        }
+        this.defaultIncrement = defaultIncrement;
+        this.minimumBid = minimumBid;
+    }
+
+    public long incrementAt(long price) {
+        int index = Arrays.binarySearch(thresholds, price);
+        if (index < 0) {
+            // Convert the insertion point into the last threshold below the price
+            index = -index - 2;
+        } else {
+            // Several rules may share a threshold; use the last one in sort order
+            while (index + 1 < thresholds.length && thresholds[index + 1] == price) {
+                index++;
+            }
+        }
+        return index >= 0 ? increments[index] : defaultIncrement;
+    }
+
+    /**
+     * Smallest acceptable bid for a lot standing at {@code currentPrice}. The
+     * opening bid may match the asking price; every later bid must raise it by
+     * the increment in force at that price.
+     */
+    public long nextValidBid(long currentPrice, boolean hasLeadingBid) {
+        if (!hasLeadingBid) {
+            return Math.max(currentPrice, minimumBid);
+        }
+        return currentPrice + incrementAt(currentPrice);
+    }
+
+    public int size() {
+        return thresholds.length;
+    }
+}
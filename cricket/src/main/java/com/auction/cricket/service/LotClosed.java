@@ -0,0 +1,17 @@
+package com.auction.cricket.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * The hammer falling on a lot. {@code teamId} is the winning team, or
+ * {@code null} when the lot closed without a bid and the player goes unsold.
+ * The amount is in minor units.
+ */
+public record LotClosed(
+        Long auctionId,
+        Long playerId,
+        Long teamId,
+        long amount,
+        LocalDateTime timestamp,
+        long sequence) implements BidBookEntry {
+}
@@ -0,0 +1,12 @@
+package com.auction.cricket.service;
+
+/**
+ * Countdown phases of a player on the block.
+ */
+public enum LotPhase {
+    IDLE,
+    OPEN,
+    GOING_ONCE,
+    GOING_TWICE,
+    CLOSED
+}
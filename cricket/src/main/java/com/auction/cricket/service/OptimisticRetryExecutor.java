@@ -0,0 +1,89 @@
+package com.auction.cricket.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs a unit of work in its own transaction and re-runs it with exponential
+ * backoff when it loses an optimistic-lock race on a versioned entity.
+ * Conflicts are counted under {@code auction.optimistic.conflicts} and
+ * give-ups under {@code auction.optimistic.retries.exhausted}, both tagged
+ * with the operation name.
+ */
+@Component
+public class OptimisticRetryExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticRetryExecutor.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.concurrency.optimistic-retry.max-attempts:4}") int maxAttempts,
+            @Value("${app.concurrency.optimistic-retry.initial-backoff-ms:10}") long initialBackoffMs,
+            @Value("${app.concurrency.optimistic-retry.max-backoff-ms:200}") long maxBackoffMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // A retry inside someone else's transaction would reuse the stale persistence context
+            return action.get();
+        }
+        int attempt = 1;
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                meterRegistry.counter("auction.optimistic.conflicts", "operation", operation).increment();
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("auction.optimistic.retries.exhausted", "operation", operation).increment();
+                    logger.warn("Giving up on {} after {} optimistic lock conflicts", operation, attempt);
+                    throw e;
+                }
+                logger.debug("Optimistic lock conflict on {} (attempt {}), retrying", operation, attempt);
+                backoff(attempt);
+                attempt++;
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 16));
+        if (ceiling <= 0) {
+            return;
+        }
+        // Jitter keeps competing writers from retrying in lockstep
+        long delay = ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off after an optimistic lock conflict", e);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.auction.cricket.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.auction.cricket.dto.BidResponse;
+import com.auction.cricket.dto.LotCountdownResponse;
+import com.auction.cricket.dto.OverlayFrameResponse;
+import com.auction.cricket.dto.OverlayTeamResponse;
+import com.auction.cricket.dto.SponsorResponse;
+import com.auction.cricket.dto.TeamBidLimitResponse;
+import com.auction.cricket.entity.Player;
+import com.auction.cricket.entity.Sponsor;
+import com.auction.cricket.entity.Team;
+import com.auction.cricket.event.AuctionEvent;
+import com.auction.cricket.event.BidPlacedEvent;
+import com.auction.cricket.event.LotCountdownEvent;
+import com.auction.cricket.event.PlayerUpdatedEvent;
+import com.auction.cricket.event.TeamUpdatedEvent;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.SponsorRepository;
+import com.auction.cricket.repository.TeamRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps what a broadcast overlay shows for each auction: the player on the
+ * block, price, leader, countdown, team purses and the sponsor in rotation.
+ * Events only update fields and mark the auction dirty. A ticker at a fixed
+ * frame rate renders dirty auctions and sends one frame each to
+ * {@code /topic/auctions/{id}/overlay}. However bursty the bidding, an overlay
+ * gets at most one frame per tick, and none while nothing changes. Team names,
+ * purses, sponsors and player details are loaded without holding a state's
+ * lock, so neither the bid book nor the database is ever waited on while
+ * events are being folded in.
+ */
+@Service
+public class OverlayStateService {
+    private static final Logger logger = LoggerFactory.getLogger(OverlayStateService.class);
+
+    private final WebSocketService webSocketService;
+    private final BidBookService bidBookService;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final SponsorRepository sponsorRepository;
+    private final long frameIntervalMs;
+    private final long sponsorRotationMs;
+    private final Map<Long, OverlayState> states = new ConcurrentHashMap<>();
+    private ScheduledExecutorService ticker;
+
+    public OverlayStateService(WebSocketService webSocketService, BidBookService bidBookService,
+            PlayerRepository playerRepository, TeamRepository teamRepository, SponsorRepository sponsorRepository,
+            @Value("${app.overlay.frames-per-second:10}") int framesPerSecond,
+            @Value("${app.overlay.sponsor-rotation-ms:10000}") long sponsorRotationMs) {
+        this.webSocketService = webSocketService;
+        this.bidBookService = bidBookService;
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.sponsorRepository = sponsorRepository;
+        this.frameIntervalMs = Math.max(1000 / Math.max(framesPerSecond, 1), 1);
+        this.sponsorRotationMs = sponsorRotationMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "overlay-frames");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, frameIntervalMs, frameIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    /** Folds an event into the overlay state; cheap, rendering happens on the next tick. */
+    public void apply(AuctionEvent event) {
+        OverlayState state = states.computeIfAbsent(event.auctionId(), OverlayState::new);
+        synchronized (state) {
+            switch (event) {
+                case BidPlacedEvent placed -> {
+                    BidResponse bid = placed.bid();
+                    state.moveTo(bid.getPlayerId());
+                    state.price = bid.getAmount();
+                    state.leadingTeamId = bid.getTeamId();
+                    state.limits = bid.getTeamLimits();
+                }
+                case LotCountdownEvent lot -> {
+                    LotCountdownResponse countdown = lot.countdown();
+                    state.moveTo(countdown.getPlayerId());
+                    state.price = countdown.getCurrentPrice();
+                    state.leadingTeamId = countdown.getLeadingTeamId();
+                    state.phase = countdown.getPhase();
+                    state.status = countdown.getStatus();
+                    state.deadline = countdown.getDeadline();
+                    if (countdown.getTeamLimits() != null) {
+                        state.limits = countdown.getTeamLimits();
+                    }
+                }
+                case PlayerUpdatedEvent player -> {
+                    if (player.playerId().equals(state.playerId)) {
+                        state.reloadPlayer();
+                    }
+                }
+                case TeamUpdatedEvent team -> {
+                    state.teamNames = null;
+                    state.limits = null;
+                    state.teamsStamp++;
+                }
+            }
+            state.dirty = true;
+        }
+    }
+
+    /** The current frame, for overlays that have just loaded. */
+    public OverlayFrameResponse getFrame(Long auctionId) {
+        OverlayState state = states.computeIfAbsent(auctionId, OverlayState::new);
+        synchronized (state) {
+            if (!state.dirty && state.frame != null) {
+                return state.frame;
+            }
+        }
+        return refresh(state, false);
+    }
+
+    public void forget(Long auctionId) {
+        states.remove(auctionId);
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        for (OverlayState state : states.values()) {
+            try {
+                synchronized (state) {
+                    if (state.sponsors != null && state.sponsors.size() > 1
+                            && now - state.sponsorShownAt >= sponsorRotationMs) {
+                        state.sponsorIndex = (state.sponsorIndex + 1) % state.sponsors.size();
+                        state.sponsorShownAt = now;
+                        state.dirty = true;
+                    }
+                }
+                OverlayFrameResponse frame = refresh(state, true);
+                if (frame != null) {
+                    webSocketService.broadcastOverlay(state.auctionId, frame);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Failed to render overlay frame for auction {}", state.auctionId, e);
+            }
+        }
+    }
+
+    /**
+     * Loads only what changed since the last render, then renders. Loading
+     * happens outside the state's lock; anything invalidated again while it
+     * was loading is left for the next tick.
+     */
+    private OverlayFrameResponse refresh(OverlayState state, boolean onlyIfDirty) {
+        Reload reload;
+        synchronized (state) {
+            if (onlyIfDirty && !state.dirty) {
+                return null;
+            }
+            reload = new Reload(state.teamsStamp, state.teamNames == null, state.limits == null,
+                    state.sponsors == null, state.playerStamp, state.playerLoaded ? null : state.playerId);
+        }
+
+        Map<Long, String> names = null;
+        if (reload.teamNames()) {
+            names = new ConcurrentHashMap<>();
+            for (Team team : teamRepository.findByAuctionId(state.auctionId)) {
+                names.put(team.getId(), team.getName());
+            }
+        }
+        List<TeamBidLimitResponse> limits = reload.limits() ? bidBookService.getBidLimits(state.auctionId) : null;
+        List<Sponsor> sponsors = reload.sponsors()
+                ? sponsorRepository.findByAuctionIdOrderByIdAsc(state.auctionId)
+                : null;
+        Player player = reload.playerId() != null ? playerRepository.findById(reload.playerId()).orElse(null) : null;
+
+        synchronized (state) {
+            if (state.teamsStamp == reload.teamsStamp()) {
+                if (names != null) {
+                    state.teamNames = names;
+                }
+                // A bid folded in meanwhile carries newer purses than the book had
+                if (limits != null && state.limits == null) {
+                    state.limits = limits;
+                }
+            }
+            if (sponsors != null && state.sponsors == null) {
+                state.sponsors = sponsors;
+                state.sponsorIndex = 0;
+                state.sponsorShownAt = System.currentTimeMillis();
+            }
+            if (reload.playerId() != null && state.playerStamp == reload.playerStamp()) {
+                state.playerName = player != null ? player.getName() : null;
+                state.playerPhotoUrl = player != null ? player.getPhotoUrl() : null;
+                state.playerRole = player != null ? player.getRole() : null;
+                state.playerLoaded = true;
+            }
+            return render(state);
+        }
+    }
+
+    private OverlayFrameResponse render(OverlayState state) {
+        Map<Long, String> teamNames = state.teamNames != null ? state.teamNames : Map.of();
+        List<TeamBidLimitResponse> limits = state.limits != null ? state.limits : List.of();
+        OverlayFrameResponse frame = new OverlayFrameResponse();
+        frame.setAuctionId(state.auctionId);
+        frame.setVersion(++state.version);
+        frame.setPlayerId(state.playerId);
+        frame.setPlayerName(state.playerName);
+        frame.setPlayerPhotoUrl(state.playerPhotoUrl);
+        frame.setPlayerRole(state.playerRole);
+        frame.setPrice(state.price);
+        frame.setLeadingTeamId(state.leadingTeamId);
+        frame.setLeadingTeamName(state.leadingTeamId != null ? teamNames.get(state.leadingTeamId) : null);
+        frame.setPhase(state.phase);
+        frame.setStatus(state.status);
+        frame.setDeadline(state.deadline);
+        frame.setServerTime(System.currentTimeMillis());
+        List<OverlayTeamResponse> teams = new ArrayList<>(limits.size());
+        for (TeamBidLimitResponse limit : limits) {
+            OverlayTeamResponse team = new OverlayTeamResponse();
+            team.setTeamId(limit.getTeamId());
+            team.setName(teamNames.get(limit.getTeamId()));
+            team.setRemainingBudget(limit.getRemainingBudget());
+            team.setOpenSlots(limit.getOpenSlots());
+            team.setMaxAllowableBid(limit.getMaxAllowableBid());
+            teams.add(team);
+        }
+        frame.setTeams(teams);
+        if (state.sponsors != null && !state.sponsors.isEmpty()) {
+            frame.setSponsor(toResponse(state.sponsors.get(state.sponsorIndex)));
+        }
+        state.frame = frame;
+        state.dirty = !state.isComplete();
+        return frame;
+    }
+
+    private static SponsorResponse toResponse(Sponsor sponsor) {
+        SponsorResponse response = new SponsorResponse();
+        response.setId(sponsor.getId());
+        response.setName(sponsor.getName());
+        response.setLogoUrl(sponsor.getLogoUrl());
+        response.setWebsite(sponsor.getWebsite());
+        response.setDescription(sponsor.getDescription());
+        return response;
+    }
+
+    // What a refresh set out to load, and the stamps it must still match to install it
+    private record Reload(long teamsStamp, boolean teamNames, boolean limits, boolean sponsors, long playerStamp,
+            Long playerId) {
+    }
+
+    // Guarded by its own monitor
+    private static final class OverlayState {
+        final Long auctionId;
+        boolean dirty = true;
+        long version;
+        OverlayFrameResponse frame;
+
+        Long playerId;
+        boolean playerLoaded;
+        String playerName;
+        String playerPhotoUrl;
+        String playerRole;
+        Double price;
+        Long leadingTeamId;
+        String phase;
+        String status;
+        Long deadline;
+        List<TeamBidLimitResponse> limits;
+        Map<Long, String> teamNames;
+        // Bumped on every invalidation so loads that raced one are discarded
+        long teamsStamp;
+        long playerStamp;
+        List<Sponsor> sponsors;
+        int sponsorIndex;
+        long sponsorShownAt;
+
+        OverlayState(Long auctionId) {
+            this.auctionId = auctionId;
+        }
+
+        void moveTo(Long newPlayerId) {
+            if (!newPlayerId.equals(playerId)) {
+                playerId = newPlayerId;
+                reloadPlayer();
+                phase = null;
+                status = null;
+                deadline = null;
+            }
+        }
+
+        void reloadPlayer() {
+            playerLoaded = false;
+            playerStamp++;
+        }
+
+        boolean isComplete() {
+            return teamNames != null && limits != null && sponsors != null && (playerLoaded || playerId == null);
+        }
+    }
+}
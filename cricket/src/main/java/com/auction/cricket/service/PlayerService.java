@@ -1,37 +1,120 @@
 package com.auction.cricket.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.auction.cricket.dto.PlayerPageRequest;
+import com.auction.cricket.dto.PlayerPageResponse;
 import com.auction.cricket.dto.PlayerRequest;
 import com.auction.cricket.dto.PlayerResponse;
 import com.auction.cricket.entity.Auction;
 import com.auction.cricket.entity.Player;
 import com.auction.cricket.entity.PlayerStatus;
 import com.auction.cricket.entity.Team;
+import com.auction.cricket.event.PlayerUpdatedEvent;
+import com.auction.cricket.event.TeamUpdatedEvent;
 import com.auction.cricket.exception.ForbiddenException;
 import com.auction.cricket.exception.ResourceNotFoundException;
 import com.auction.cricket.repository.AuctionRepository;
 import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.PlayerRow;
+import com.auction.cricket.repository.PlayerSpecifications;
 import com.auction.cricket.repository.TeamRepository;
 
 @Service
 public class PlayerService {
 
+    private static final int MAX_PLAYER_PAGE_SIZE = 200;
+
+    /** Listing orders, each ending in id so that every row has a unique position. */
+    enum PlayerSort {
+        NAME("name", false), PRICE_ASC("currentPrice", false), PRICE_DESC("currentPrice", true),
+        REGISTERED("id", false);
+
+        final String attribute;
+        final boolean descending;
+
+        PlayerSort(String attribute, boolean descending) {
+            this.attribute = attribute;
+            this.descending = descending;
+        }
+
+        static PlayerSort parse(String value) {
+            try {
+                return value == null ? NAME : valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown sort: " + value);
+            }
+        }
+
+        Sort order() {
+            Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+            return this == REGISTERED ? Sort.by(direction, "id") : Sort.by(direction, attribute, "id");
+        }
+
+        String cursorOf(Player player) {
+            Object key = switch (this) {
+                case NAME -> player.getName();
+                case PRICE_ASC, PRICE_DESC -> player.getCurrentPrice();
+                case REGISTERED -> player.getId();
+            };
+            String raw = name() + "|" + player.getId() + "|" + key;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        Specification<Player> after(String cursor) {
+            String[] parts;
+            try {
+                parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 3);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            if (parts.length != 3 || !parts[0].equals(name())) {
+                throw new IllegalArgumentException("Cursor does not belong to sort " + name());
+            }
+            try {
+                Long id = Long.valueOf(parts[1]);
+                return switch (this) {
+                    case NAME -> PlayerSpecifications.after(attribute, descending, parts[2], id);
+                    case PRICE_ASC, PRICE_DESC -> PlayerSpecifications.after(attribute, descending,
+                            Double.valueOf(parts[2]), id);
+                    case REGISTERED -> PlayerSpecifications.after(attribute, descending, id, id);
+                };
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
     private final AuctionRepository auctionRepository;
     private final AccessEntitlementService accessEntitlementService;
+    private final BidBookService bidBookService;
+    private final TeamStatsCache teamStatsCache;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PlayerService(PlayerRepository playerRepository, TeamRepository teamRepository,
-            AuctionRepository auctionRepository, AccessEntitlementService accessEntitlementService) {
+            AuctionRepository auctionRepository, AccessEntitlementService accessEntitlementService,
+            BidBookService bidBookService, TeamStatsCache teamStatsCache,
+            OptimisticRetryExecutor optimisticRetryExecutor, ApplicationEventPublisher eventPublisher) {
         this.playerRepository = playerRepository;
         this.teamRepository = teamRepository;
         this.auctionRepository = auctionRepository;
         this.accessEntitlementService = accessEntitlementService;
+        this.bidBookService = bidBookService;
+        this.teamStatsCache = teamStatsCache;
+        this.optimisticRetryExecutor = optimisticRetryExecutor;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -66,30 +149,66 @@ public class PlayerService {
 
     @Transactional(readOnly = true)
     public List<PlayerResponse> getAllPlayers(Long auctionId) {
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Auction not found with id: " + auctionId));
-        return playerRepository.findByAuction(auction).stream()
-                .map(this::convertToResponse)
+        requireAuction(auctionId);
+        return playerRepository.findRowsByAuctionId(auctionId).stream()
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of an auction's players, filtered and sorted in the database and
+     * resumed from the previous page's last row rather than an offset.
+     */
+    @Transactional(readOnly = true)
+    public PlayerPageResponse getPlayerPage(Long auctionId, PlayerPageRequest request) {
+        requireAuction(auctionId);
+        int limit = request.getLimit() != null ? request.getLimit() : 50;
+        if (limit < 1 || limit > MAX_PLAYER_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PLAYER_PAGE_SIZE);
+        }
+        PlayerSort sort = PlayerSort.parse(request.getSort());
+        Specification<Player> filters = Specification.where(PlayerSpecifications.inAuction(auctionId))
+                .and(PlayerSpecifications.hasStatus(request.getStatus()))
+                .and(PlayerSpecifications.hasRole(request.getRole()))
+                .and(PlayerSpecifications.isIcon(request.getIcon()))
+                .and(PlayerSpecifications.inTeam(request.getTeamId()))
+                .and(PlayerSpecifications.nameStartsWith(request.getNamePrefix()))
+                .and(PlayerSpecifications.priceBetween(request.getMinPrice(), request.getMaxPrice()));
+        Specification<Player> page = filters.and(PlayerSpecifications.fetchTeam());
+        if (request.getCursor() != null) {
+            page = page.and(sort.after(request.getCursor()));
+        }
+
+        // One extra row tells whether there is a next page
+        List<Player> rows = playerRepository.findBy(page, query -> query.sortBy(sort.order()).limit(limit + 1).all());
+        List<Player> items = rows.size() > limit ? rows.subList(0, limit) : rows;
+        PlayerPageResponse response = new PlayerPageResponse();
+        response.setItems(items.stream().map(this::convertToResponse).toList());
+        if (rows.size() > limit) {
+            response.setNextCursor(sort.cursorOf(items.get(items.size() - 1)));
+        }
+        if (request.getCursor() == null) {
+            response.setTotalCount(playerRepository.count(filters));
+        }
+        return response;
+    }
+
     @Transactional(readOnly = true)
     public List<PlayerResponse> getAvailablePlayers(Long auctionId) {
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Auction not found with id: " + auctionId));
-        return playerRepository.findByAuctionAndStatus(auction, PlayerStatus.AVAILABLE).stream()
-                .map(this::convertToResponse)
+        requireAuction(auctionId);
+        return playerRepository.findRowsByAuctionIdAndStatus(auctionId, PlayerStatus.AVAILABLE).stream()
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<PlayerResponse> getPlayersByTeam(Long auctionId, Long teamId) {
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Auction not found with id: " + auctionId));
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + teamId));
-        return playerRepository.findByAuctionAndTeam(auction, team).stream()
-                .map(this::convertToResponse)
+        requireAuction(auctionId);
+        if (!teamRepository.existsById(teamId)) {
+            throw new ResourceNotFoundException("Team not found with id: " + teamId);
+        }
+        return playerRepository.findRowsByAuctionIdAndTeamId(auctionId, teamId).stream()
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -128,12 +247,19 @@ public class PlayerService {
         }
 
         player = playerRepository.save(player);
+        invalidateLiveState(auctionId);
+        eventPublisher.publishEvent(new PlayerUpdatedEvent(auctionId, player.getId()));
         return convertToResponse(player);
     }
 
-    @Transactional
     public PlayerResponse updatePlayerStatus(Long auctionId, Long playerId, String status, Long teamId,
             Double finalBidAmount) {
+        return optimisticRetryExecutor.execute("player.updateStatus",
+                () -> applyPlayerStatus(auctionId, playerId, status, teamId, finalBidAmount));
+    }
+
+    private PlayerResponse applyPlayerStatus(Long auctionId, Long playerId, String status, Long teamId,
+            Double finalBidAmount) {
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Auction not found with id: " + auctionId));
         Player player = playerRepository.findById(playerId)
@@ -154,6 +280,7 @@ public class PlayerService {
                 }
                 team.setRemainingBudget(newRemainingBudget);
                 teamRepository.save(team);
+                eventPublisher.publishEvent(new TeamUpdatedEvent(auctionId, team.getId()));
             } else {
                 throw new IllegalArgumentException("Team ID and final bid amount are required for SOLD status.");
             }
@@ -163,6 +290,8 @@ public class PlayerService {
 
         }
         player = playerRepository.save(player);
+        invalidateLiveState(auctionId);
+        eventPublisher.publishEvent(new PlayerUpdatedEvent(auctionId, player.getId()));
         return convertToResponse(player);
     }
 
@@ -188,6 +317,8 @@ public class PlayerService {
         player.setCurrentPrice(0.0);
 
         player = playerRepository.save(player);
+        invalidateLiveState(auctionId);
+        eventPublisher.publishEvent(new PlayerUpdatedEvent(auctionId, player.getId()));
         return convertToResponse(player);
     }
 
@@ -214,13 +345,20 @@ public class PlayerService {
         player.setTeam(null);
         player.setStatus(PlayerStatus.AVAILABLE);
         player.setCurrentPrice(auction.getBasePrice());
+        player.setCurrentBid(null);
 
         player = playerRepository.save(player);
+        invalidateLiveState(auctionId);
+        eventPublisher.publishEvent(new PlayerUpdatedEvent(auctionId, player.getId()));
         return convertToResponse(player);
     }
 
-    @Transactional
     public PlayerResponse removePlayerFromTeam(Long auctionId, Long teamId, Long playerId) {
+        return optimisticRetryExecutor.execute("player.removeFromTeam",
+                () -> applyRemoveFromTeam(auctionId, teamId, playerId));
+    }
+
+    private PlayerResponse applyRemoveFromTeam(Long auctionId, Long teamId, Long playerId) {
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Auction not found with id: " + auctionId));
         Team team = teamRepository.findById(teamId)
@@ -245,19 +383,27 @@ public class PlayerService {
             }
             team.setRemainingBudget(nextRemaining);
             teamRepository.save(team);
+            eventPublisher.publishEvent(new TeamUpdatedEvent(auctionId, teamId));
         }
 
         player.setIsIcon(false);
         player.setTeam(null);
         player.setStatus(PlayerStatus.AVAILABLE);
         player.setCurrentPrice(auction.getBasePrice());
+        player.setCurrentBid(null);
 
         player = playerRepository.save(player);
+        invalidateLiveState(auctionId);
+        eventPublisher.publishEvent(new PlayerUpdatedEvent(auctionId, player.getId()));
         return convertToResponse(player);
     }
 
-    @Transactional
     public PlayerResponse addPlayerToTeam(Long auctionId, Long teamId, Long playerId, Double finalBidAmount) {
+        return optimisticRetryExecutor.execute("player.addToTeam",
+                () -> applyAddToTeam(auctionId, teamId, playerId, finalBidAmount));
+    }
+
+    private PlayerResponse applyAddToTeam(Long auctionId, Long teamId, Long playerId, Double finalBidAmount) {
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Auction not found with id: " + auctionId));
         Team team = teamRepository.findById(teamId)
@@ -296,7 +442,10 @@ public class PlayerService {
         team.setRemainingBudget(newRemainingBudget);
 
         teamRepository.save(team);
+        eventPublisher.publishEvent(new TeamUpdatedEvent(auctionId, teamId));
         player = playerRepository.save(player);
+        invalidateLiveState(auctionId);
+        eventPublisher.publishEvent(new PlayerUpdatedEvent(auctionId, player.getId()));
         return convertToResponse(player);
     }
 
@@ -318,8 +467,11 @@ public class PlayerService {
         player.setCurrentPrice(auction.getBasePrice());
         player.setTeam(null);
         player.setIsIcon(false);
+        player.setCurrentBid(null);
 
         player = playerRepository.save(player);
+        invalidateLiveState(auctionId);
+        eventPublisher.publishEvent(new PlayerUpdatedEvent(auctionId, player.getId()));
         return convertToResponse(player);
     }
 
@@ -335,6 +487,8 @@ public class PlayerService {
         }
 
         playerRepository.delete(player);
+        invalidateLiveState(auctionId);
+        eventPublisher.publishEvent(new PlayerUpdatedEvent(auctionId, playerId));
     }
 
     @Transactional
@@ -345,7 +499,9 @@ public class PlayerService {
         List<Player> unsoldPlayers = playerRepository.findByAuctionAndStatus(auction, PlayerStatus.UNSOLD);
         for (Player player : unsoldPlayers) {
             player.setStatus(PlayerStatus.AVAILABLE);
+            player.setCurrentBid(null);
             playerRepository.save(player);
+            eventPublisher.publishEvent(new PlayerUpdatedEvent(auctionId, player.getId()));
         }
 
         // Also reset players who were SOLD but are now being made available (e.g., if a
@@ -355,27 +511,47 @@ public class PlayerService {
             if (player.getTeam() == null) { // Only reset if team is null (e.g., team was deleted)
                 player.setStatus(PlayerStatus.AVAILABLE);
                 player.setCurrentPrice(auction.getBasePrice());
+                player.setCurrentBid(null);
                 playerRepository.save(player);
+                eventPublisher.publishEvent(new PlayerUpdatedEvent(auctionId, player.getId()));
             }
         }
+        invalidateLiveState(auctionId);
+    }
+
+    private void requireAuction(Long auctionId) {
+        if (!auctionRepository.existsById(auctionId)) {
+            throw new ResourceNotFoundException("Auction not found with id: " + auctionId);
+        }
+    }
+
+    // Squads, sales or roles changed outside the bid book; both views reload after commit
+    private void invalidateLiveState(Long auctionId) {
+        bidBookService.invalidate(auctionId);
+        teamStatsCache.invalidate(auctionId);
     }
 
     private PlayerResponse convertToResponse(Player player) {
+        return toResponse(new PlayerRow(player.getId(), player.getAuction().getId(), player.getName(),
+                player.getAge(), player.getRole(), player.getMobileNumber(),
+                player.getTeam() != null ? player.getTeam().getName() : null, player.getStatus(),
+                player.getCurrentPrice(), player.getPhotoUrl(), player.getIsIcon()));
+    }
+
+    PlayerResponse toResponse(PlayerRow row) {
         PlayerResponse response = new PlayerResponse();
-        response.setId(player.getId());
-        response.setName(player.getName());
-        response.setAge(player.getAge());
-        response.setRole(player.getRole());
-        response.setMobileNumber(player.getMobileNumber());
-        if (player.getTeam() != null) {
-            response.setTeamName(player.getTeam().getName());
-        }
-        response.setStatus(player.getStatus().name());
-        response.setSold(player.getStatus() == PlayerStatus.SOLD);
-        response.setUnsold(player.getStatus() == PlayerStatus.UNSOLD);
-        response.setCurrentPrice(player.getCurrentPrice());
-        response.setPhotoUrl(player.getPhotoUrl());
-        response.setIsIcon(player.getIsIcon());
+        response.setId(row.id());
+        response.setName(row.name());
+        response.setAge(row.age());
+        response.setRole(row.role());
+        response.setMobileNumber(row.mobileNumber());
+        response.setTeamName(row.teamName());
+        response.setStatus(row.status().name());
+        response.setSold(row.status() == PlayerStatus.SOLD);
+        response.setUnsold(row.status() == PlayerStatus.UNSOLD);
+        response.setCurrentPrice(row.currentPrice());
+        response.setPhotoUrl(row.photoUrl());
+        response.setIsIcon(row.isIcon());
         return response;
     }
 }
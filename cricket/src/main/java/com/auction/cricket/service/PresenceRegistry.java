@@ -0,0 +1,267 @@
+package com.auction.cricket.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.auction.cricket.dto.PresenceResponse;
+import com.auction.cricket.dto.TeamPresenceResponse;
+import com.auction.cricket.repository.TeamRepository;
+import com.auction.cricket.security.StompAuthenticationInterceptor;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Tracks who is connected to each auction. A client joins by subscribing to
+ * {@code /topic/auctions/{id}/presence}, optionally with a {@code team-id}
+ * header, and leaves when it unsubscribes or its session closes. Teams have
+ * no accounts of their own and are bid for by the auction's organizer, so
+ * only the organizer's sessions may claim a team; anyone else joins as a
+ * viewer. Sessions
+ * that stop sending STOMP heartbeats are closed by the broker, so they leave
+ * too.
+ * <p>
+ * Joins and leaves only adjust counters. A flusher sends what changed since
+ * the last flush as one diff per auction, so a team that drops and reconnects
+ * within a window shows no change at all.
+ */
+@Service
+public class PresenceRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(PresenceRegistry.class);
+
+    private static final String TEAM_HEADER = "team-id";
+
+    public enum Role {
+        AUCTIONEER, TEAM, VIEWER
+    }
+
+    private record Presence(Long auctionId, String subscriptionId, Role role, Long teamId) {
+    }
+
+    private final WebSocketService webSocketService;
+    private final StompAuthenticationInterceptor stompAuthentication;
+    private final TeamRepository teamRepository;
+    private final long flushIntervalMs;
+    private final Map<String, Presence> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, AuctionPresence> auctions = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    public PresenceRegistry(WebSocketService webSocketService, StompAuthenticationInterceptor stompAuthentication,
+            TeamRepository teamRepository, @Value("${app.presence.flush-ms:250}") long flushIntervalMs) {
+        this.webSocketService = webSocketService;
+        this.stompAuthentication = stompAuthentication;
+        this.teamRepository = teamRepository;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "presence-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.shutdownNow();
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        Long auctionId = WebSocketService.auctionIdOf(destination);
+        if (auctionId == null || !destination.equals(WebSocketService.auctionTopic(auctionId,
+                WebSocketService.PRESENCE))) {
+            return;
+        }
+        boolean organizer = stompAuthentication.isOrganizer(event.getUser(), auctionId);
+        Long teamId = organizer ? teamOf(accessor.getFirstNativeHeader(TEAM_HEADER), auctionId) : null;
+        Role role = teamId != null ? Role.TEAM : organizer ? Role.AUCTIONEER : Role.VIEWER;
+        // A session is in one auction room at a time; joining another leaves the first
+        Presence previous = sessions.put(accessor.getSessionId(),
+                new Presence(auctionId, accessor.getSubscriptionId(), role, teamId));
+        if (previous != null) {
+            leave(previous);
+        }
+        auctions.computeIfAbsent(auctionId, AuctionPresence::new).join(role, teamId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Presence presence = sessions.get(accessor.getSessionId());
+        if (presence != null && presence.subscriptionId().equals(accessor.getSubscriptionId())
+                && sessions.remove(accessor.getSessionId(), presence)) {
+            leave(presence);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Presence presence = sessions.remove(event.getSessionId());
+        if (presence != null) {
+            leave(presence);
+        }
+    }
+
+    public PresenceResponse getPresence(Long auctionId) {
+        AuctionPresence presence = auctions.get(auctionId);
+        if (presence == null) {
+            presence = new AuctionPresence(auctionId);
+        }
+        return presence.snapshot();
+    }
+
+    public void forget(Long auctionId) {
+        auctions.remove(auctionId);
+    }
+
+    private Long teamOf(String header, Long auctionId) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            Long teamId = Long.valueOf(header);
+            return teamRepository.existsByIdAndAuctionId(teamId, auctionId) ? teamId : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void leave(Presence presence) {
+        AuctionPresence auction = auctions.get(presence.auctionId());
+        if (auction != null) {
+            auction.leave(presence.role(), presence.teamId());
+        }
+    }
+
+    private void flush() {
+        for (AuctionPresence auction : auctions.values()) {
+            try {
+                PresenceResponse diff = auction.drainDiff();
+                if (diff != null) {
+                    webSocketService.broadcastPresence(auction.auctionId, diff);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Failed to publish presence for auction {}", auction.auctionId, e);
+            }
+        }
+    }
+
+    private static final class AuctionPresence {
+        final Long auctionId;
+        final Map<Long, AtomicInteger> teamSessions = new ConcurrentHashMap<>();
+        final AtomicInteger auctioneers = new AtomicInteger();
+        final AtomicInteger viewers = new AtomicInteger();
+        final Set<Long> changedTeams = ConcurrentHashMap.newKeySet();
+        final AtomicBoolean dirty = new AtomicBoolean();
+        final AtomicLong version = new AtomicLong();
+        // Only touched by the flusher
+        final Map<Long, Boolean> lastSentOnline = new HashMap<>();
+        int lastSentAuctioneers;
+        int lastSentViewers;
+
+        AuctionPresence(Long auctionId) {
+            this.auctionId = auctionId;
+        }
+
+        void join(Role role, Long teamId) {
+            adjust(role, teamId, 1);
+        }
+
+        void leave(Role role, Long teamId) {
+            adjust(role, teamId, -1);
+        }
+
+        private void adjust(Role role, Long teamId, int delta) {
+            switch (role) {
+                case TEAM -> {
+                    teamSessions.computeIfAbsent(teamId, id -> new AtomicInteger()).addAndGet(delta);
+                    changedTeams.add(teamId);
+                }
+                case AUCTIONEER -> auctioneers.addAndGet(delta);
+                case VIEWER -> viewers.addAndGet(delta);
+            }
+            dirty.set(true);
+        }
+
+        PresenceResponse drainDiff() {
+            if (!dirty.getAndSet(false)) {
+                return null;
+            }
+            List<TeamPresenceResponse> teams = new ArrayList<>();
+            for (Long teamId : changedTeams) {
+                changedTeams.remove(teamId);
+                int count = sessionsOf(teamId);
+                boolean online = count > 0;
+                if (!Boolean.valueOf(online).equals(lastSentOnline.getOrDefault(teamId, false))) {
+                    lastSentOnline.put(teamId, online);
+                    teams.add(team(teamId, count));
+                }
+            }
+            int currentAuctioneers = auctioneers.get();
+            int currentViewers = viewers.get();
+            if (teams.isEmpty() && currentAuctioneers == lastSentAuctioneers && currentViewers == lastSentViewers) {
+                return null;
+            }
+            lastSentAuctioneers = currentAuctioneers;
+            lastSentViewers = currentViewers;
+            return response(false, currentAuctioneers, currentViewers, teams);
+        }
+
+        PresenceResponse snapshot() {
+            List<TeamPresenceResponse> teams = new ArrayList<>();
+            teamSessions.forEach((teamId, count) -> teams.add(team(teamId, count.get())));
+            return response(true, auctioneers.get(), viewers.get(), teams);
+        }
+
+        private int sessionsOf(Long teamId) {
+            AtomicInteger count = teamSessions.get(teamId);
+            return count != null ? count.get() : 0;
+        }
+
+        private PresenceResponse response(boolean full, int auctioneerCount, int viewerCount,
+                List<TeamPresenceResponse> teams) {
+            PresenceResponse response = new PresenceResponse();
+            response.setAuctionId(auctionId);
+            response.setVersion(full ? version.get() : version.incrementAndGet());
+            response.setFull(full);
+            response.setAuctioneers(auctioneerCount);
+            response.setViewers(viewerCount);
+            response.setTeams(teams);
+            return response;
+        }
+
+        private static TeamPresenceResponse team(Long teamId, int count) {
+            TeamPresenceResponse team = new TeamPresenceResponse();
+            team.setTeamId(teamId);
+            team.setOnline(count > 0);
+            team.setSessions(count);
+            return team;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.auction.cricket.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A team's budget in minor units, split into what is free to bid with, what
+ * is held by lots the team currently leads and what has been spent on lots
+ * already won. Entries move money between the buckets:
+ * <ul>
+ * <li>reserve: available to reserved when the team takes the lead on a lot</li>
+ * <li>refund: reserved back to available when the team is outbid</li>
+ * <li>commit: reserved to spent when the hammer falls</li>
+ * </ul>
+ * Counters are atomics so other threads can read a consistent enough view
+ * without going through the book's executor.
+ */
+public final class TeamBudgetLedger {
+
+    private final AtomicLong available;
+    private final AtomicLong reserved = new AtomicLong();
+    private final AtomicLong spent = new AtomicLong();
+
+    public TeamBudgetLedger(long remainingMinor) {
+        this.available = new AtomicLong(remainingMinor);
+    }
+
+    /** Returns {@code false} without changing anything if the team cannot cover {@code amount}. */
+    public boolean reserve(long amount) {
+        long current;
+        do {
+            current = available.get();
+            if (current < amount) {
+                return false;
+            }
+        } while (!available.compareAndSet(current, current - amount));
+        reserved.addAndGet(amount);
+        return true;
+    }
+
+    /**
+     * Re-establishes a hold that was already granted before the book was
+     * reloaded, even if it leaves nothing available.
+     */
+    public void restore(long amount) {
+        available.addAndGet(-amount);
+        reserved.addAndGet(amount);
+    }
+
+    public void refund(long amount) {
+        reserved.addAndGet(-amount);
+        available.addAndGet(amount);
+    }
+
+    public void commit(long amount) {
+        reserved.addAndGet(-amount);
+        spent.addAndGet(amount);
+    }
+
+    public long available() {
+        return available.get();
+    }
+
+    public long reserved() {
+        return reserved.get();
+    }
+
+    public long spent() {
+        return spent.get();
+    }
+
+    /** What the database calls the remaining budget: everything not yet spent. */
+    public long remaining() {
+        return available.get() + reserved.get();
+    }
+}
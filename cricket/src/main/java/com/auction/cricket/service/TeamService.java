@@ -1,10 +1,12 @@
 package com.auction.cricket.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,11 +14,13 @@ import com.auction.cricket.dto.TeamRequest;
 import com.auction.cricket.dto.TeamResponse;
 import com.auction.cricket.entity.Auction;
 import com.auction.cricket.entity.Team;
+import com.auction.cricket.event.TeamUpdatedEvent;
 import com.auction.cricket.exception.ResourceNotFoundException;
 import com.auction.cricket.repository.AuctionRepository;
 import com.auction.cricket.repository.BidRepository;
 import com.auction.cricket.repository.PlayerRepository;
 import com.auction.cricket.repository.TeamRepository;
+import com.auction.cricket.repository.TeamRow;
 import com.auction.cricket.repository.UserRepository;
 
 @Service
@@ -29,41 +33,56 @@ public class TeamService {
     private final PlayerRepository playerRepository;
     private final BidRepository bidRepository;
     private final AccessEntitlementService accessEntitlementService;
+    private final BidBookService bidBookService;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamStatsCache teamStatsCache;
 
     public TeamService(TeamRepository teamRepository, UserRepository userRepository,
             AuctionRepository auctionRepository, PlayerRepository playerRepository, BidRepository bidRepository,
-            AccessEntitlementService accessEntitlementService) {
+            AccessEntitlementService accessEntitlementService, BidBookService bidBookService,
+            OptimisticRetryExecutor optimisticRetryExecutor,
+            ApplicationEventPublisher eventPublisher, TeamStatsCache teamStatsCache) {
         this.teamRepository = teamRepository;
         this.userRepository = userRepository;
         this.auctionRepository = auctionRepository;
         this.playerRepository = playerRepository;
         this.bidRepository = bidRepository;
         this.accessEntitlementService = accessEntitlementService;
+        this.bidBookService = bidBookService;
+        this.optimisticRetryExecutor = optimisticRetryExecutor;
+        this.eventPublisher = eventPublisher;
+        this.teamStatsCache = teamStatsCache;
     }
 
     @Transactional(readOnly = true)
     public List<TeamResponse> getAllTeams() {
         logger.debug("Fetching all teams");
-        return teamRepository.findAll().stream()
-                .map(this::mapToResponse)
+        List<TeamRow> rows = teamRepository.findAllRows();
+        Map<Long, Map<Long, TeamStats>> stats = teamStatsCache.statsFor(
+                rows.stream().map(TeamRow::auctionId).distinct().toList());
+        return rows.stream()
+                .map(row -> toResponse(row, stats.get(row.auctionId()).getOrDefault(row.id(), TeamStats.EMPTY)))
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public TeamResponse getTeamById(Long id) {
         logger.debug("Fetching team by id: {}", id);
-        Team team = teamRepository.findById(id)
+        TeamRow row = teamRepository.findRowById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + id));
-        return mapToResponse(team);
+        return toResponse(row, teamStatsCache.statsFor(row.auctionId()).getOrDefault(id, TeamStats.EMPTY));
     }
 
     @Transactional(readOnly = true)
     public List<TeamResponse> getTeamsByAuction(Long auctionId) {
         logger.debug("Fetching teams for auction: {}", auctionId);
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Auction not found with id: " + auctionId));
-        return teamRepository.findByAuction(auction).stream()
-                .map(this::mapToResponse)
+        if (!auctionRepository.existsById(auctionId)) {
+            throw new ResourceNotFoundException("Auction not found with id: " + auctionId);
+        }
+        Map<Long, TeamStats> stats = teamStatsCache.statsFor(auctionId);
+        return teamRepository.findRowsByAuctionId(auctionId).stream()
+                .map(row -> toResponse(row, stats.getOrDefault(row.id(), TeamStats.EMPTY)))
                 .collect(Collectors.toList());
     }
 
@@ -126,6 +145,8 @@ public class TeamService {
         team.setName(request.getName());
         team.setLogoUrl(request.getLogoUrl());
         team = teamRepository.save(team);
+        bidBookService.invalidate(auctionId);
+        eventPublisher.publishEvent(new TeamUpdatedEvent(auctionId, team.getId()));
         return mapToResponse(team);
     }
 
@@ -141,14 +162,21 @@ public class TeamService {
         // Disassociate players from the team
         team.getPlayers().forEach(player -> player.setTeam(null));
         // Remove bids since bid.team is non-nullable
+        playerRepository.clearCurrentBidsByTeamId(id);
         bidRepository.deleteByTeamId(id);
 
         teamRepository.delete(team);
+        bidBookService.invalidate(auctionId);
+        teamStatsCache.invalidate(auctionId);
+        eventPublisher.publishEvent(new TeamUpdatedEvent(auctionId, id));
     }
 
-    @Transactional
     public TeamResponse updateBudget(Long id, Double budget) {
         logger.debug("Updating budget for team id: {} to: {}", id, budget);
+        return optimisticRetryExecutor.execute("team.updateBudget", () -> applyBudget(id, budget));
+    }
+
+    private TeamResponse applyBudget(Long id, Double budget) {
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + id));
 
@@ -160,22 +188,30 @@ public class TeamService {
         int pointsUsed = team.getPointsUsed() != null ? team.getPointsUsed() : 0;
         team.setRemainingBudget(budget - pointsUsed);
         team = teamRepository.save(team);
+        bidBookService.invalidate(team.getAuction().getId());
+        eventPublisher.publishEvent(new TeamUpdatedEvent(team.getAuction().getId(), team.getId()));
         return mapToResponse(team);
     }
 
     private TeamResponse mapToResponse(Team team) {
+        Auction auction = team.getAuction();
+        TeamRow row = new TeamRow(team.getId(), auction.getId(), auction.getName(), team.getName(),
+                team.getBudgetAmount(), team.getRemainingBudget(), team.getIsActive(), team.getLogoUrl());
+        return toResponse(row, teamStatsCache.statsFor(auction.getId()).getOrDefault(team.getId(), TeamStats.EMPTY));
+    }
+
+    TeamResponse toResponse(TeamRow row, TeamStats stats) {
         TeamResponse response = new TeamResponse();
-        response.setId(team.getId());
-        response.setName(team.getName());
-        response.setBudgetAmount(team.getBudgetAmount());
-        response.setRemainingBudget(team.getRemainingBudget());
-        long playersCount = playerRepository.countByAuctionAndTeam(team.getAuction(), team);
-        Double pointsUsed = playerRepository.sumSoldPriceByAuctionAndTeam(team.getAuction(), team);
-        response.setPlayersCount((int) playersCount);
-        response.setPointsUsed(pointsUsed == null ? 0 : (int) Math.round(pointsUsed));
-        response.setAuctionName(team.getAuction().getName());
-        response.setIsActive(team.getIsActive());
-        response.setLogoUrl(team.getLogoUrl());
+        response.setId(row.id());
+        response.setName(row.name());
+        response.setBudgetAmount(row.budgetAmount());
+        response.setRemainingBudget(row.remainingBudget());
+        response.setPlayersCount((int) stats.playersCount());
+        response.setPointsUsed((int) Math.round(stats.soldTotal()));
+        response.setRoleCounts(stats.roleCounts());
+        response.setAuctionName(row.auctionName());
+        response.setIsActive(row.isActive());
+        response.setLogoUrl(row.logoUrl());
         return response;
     }
 }
@@ -0,0 +1,11 @@
+package com.auction.cricket.service;
+
+import java.util.Map;
+
+/**
+ * Squad size, money spent on sold players and players per role for one team.
+ */
+public record TeamStats(long playersCount, double soldTotal, Map<String, Integer> roleCounts) {
+
+    public static final TeamStats EMPTY = new TeamStats(0, 0, Map.of());
+}
@@ -0,0 +1,117 @@
+package com.auction.cricket.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.TeamRoleStats;
+
+/**
+ * Per-team statistics for whole auctions, computed by one grouped query and
+ * kept until a sale, refund or squad change in that auction. Sales made by
+ * the bid book invalidate once the write-behind has persisted them; edits
+ * made outside the book invalidate explicitly. Bids alone never do, since
+ * they change no squad.
+ */
+@Service
+public class TeamStatsCache {
+
+    private final PlayerRepository playerRepository;
+    private final Map<Long, Entry> byAuction = new ConcurrentHashMap<>();
+
+    public TeamStatsCache(PlayerRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+
+    /** Stats by team id; teams without players are absent. */
+    public Map<Long, TeamStats> statsFor(Long auctionId) {
+        return statsFor(List.of(auctionId)).get(auctionId);
+    }
+
+    /** Stats by auction id and team id, loading every uncached auction in one query. */
+    public Map<Long, Map<Long, TeamStats>> statsFor(Collection<Long> auctionIds) {
+        Map<Long, Map<Long, TeamStats>> result = new HashMap<>();
+        // Versions the missing auctions were at before loading
+        Map<Long, Long> versions = new HashMap<>();
+        for (Long id : auctionIds) {
+            Entry entry = byAuction.get(id);
+            if (entry != null && entry.stats() != null) {
+                result.put(id, entry.stats());
+            } else {
+                versions.put(id, entry == null ? 0 : entry.version());
+            }
+        }
+        if (versions.isEmpty()) {
+            return result;
+        }
+
+        List<Long> missing = List.copyOf(versions.keySet());
+        Map<Long, Map<Long, Accumulator>> loaded = new HashMap<>();
+        for (TeamRoleStats row : playerRepository.findTeamRoleStatsByAuctionIdIn(missing)) {
+            loaded.computeIfAbsent(row.getAuctionId(), id -> new HashMap<>())
+                    .computeIfAbsent(row.getTeamId(), id -> new Accumulator())
+                    .add(row);
+        }
+        for (Long auctionId : missing) {
+            Map<Long, TeamStats> stats = new HashMap<>();
+            loaded.getOrDefault(auctionId, Map.of()).forEach((teamId, acc) -> stats.put(teamId, acc.toStats()));
+            Map<Long, TeamStats> frozen = Map.copyOf(stats);
+            result.put(auctionId, frozen);
+            // Cache only if no invalidation of this auction ran while loading
+            long version = versions.get(auctionId);
+            byAuction.compute(auctionId, (id, current) -> {
+                long currentVersion = current == null ? 0 : current.version();
+                return currentVersion == version ? new Entry(version, frozen) : current;
+            });
+        }
+        return result;
+    }
+
+    /** Drops an auction's stats once the current transaction commits. */
+    public void invalidate(Long auctionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    drop(auctionId);
+                }
+            });
+        } else {
+            drop(auctionId);
+        }
+    }
+
+    /** Leaves a tombstone with a newer version so that a load already in flight is not cached. */
+    private void drop(Long auctionId) {
+        byAuction.compute(auctionId, (id, current) -> new Entry(current == null ? 1 : current.version() + 1, null));
+    }
+
+    /** Stats, or null after an invalidation, with the number of invalidations seen. */
+    private record Entry(long version, Map<Long, TeamStats> stats) {
+    }
+
+    private static final class Accumulator {
+        long players;
+        double sold;
+        final Map<String, Integer> roles = new HashMap<>();
+
+        void add(TeamRoleStats row) {
+            players += row.getPlayersCount();
+            sold += row.getSoldTotal() != null ? row.getSoldTotal() : 0;
+            if (row.getRole() != null) {
+                roles.merge(row.getRole(), (int) row.getPlayersCount(), Integer::sum);
+            }
+        }
+
+        TeamStats toStats() {
+            return new TeamStats(players, sold, Map.copyOf(roles));
+        }
+    }
+}
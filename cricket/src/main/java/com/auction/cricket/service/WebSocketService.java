@@ -1,21 +1,104 @@
 package com.auction.cricket.service;
 
+import com.auction.cricket.dto.AuctionDeltaResponse;
 import com.auction.cricket.dto.BidResponse;
+import com.auction.cricket.dto.LotCountdownResponse;
+import com.auction.cricket.dto.OverlayFrameResponse;
+import com.auction.cricket.dto.PresenceResponse;
+import com.auction.cricket.event.AuctionBinaryCodec;
+import com.auction.cricket.event.OutboundConflator;
+import com.auction.cricket.event.WireCodecNegotiator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * Sends auction traffic to per-auction destinations under
+ * {@code /topic/auctions/{auctionId}/}, so the broker only fans a message out
+ * to clients watching that auction.
+ */
 @Service
 public class WebSocketService {
 
+    public static final String AUCTION_TOPIC_PREFIX = "/topic/auctions/";
+    public static final String BIDS = "bids";
+    public static final String PLAYERS = "players";
+    public static final String TEAMS = "teams";
+    public static final String LOTS = "lots";
+    public static final String DELTAS = "deltas";
+    public static final String OVERLAY = "overlay";
+    public static final String PRESENCE = "presence";
+
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
-    public void broadcastBid(BidResponse bid) {
-        messagingTemplate.convertAndSend("/topic/bids", bid);
+    @Autowired
+    private WireCodecNegotiator wireCodecNegotiator;
+
+    public static String auctionTopic(Long auctionId, String channel) {
+        return AUCTION_TOPIC_PREFIX + auctionId + "/" + channel;
+    }
+
+    /** The auction an auction topic belongs to, or {@code null} for any other destination. */
+    public static Long auctionIdOf(String destination) {
+        if (destination == null || !destination.startsWith(AUCTION_TOPIC_PREFIX)) {
+            return null;
+        }
+        int end = destination.indexOf('/', AUCTION_TOPIC_PREFIX.length());
+        try {
+            return Long.valueOf(destination.substring(AUCTION_TOPIC_PREFIX.length(),
+                    end < 0 ? destination.length() : end));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public void broadcastBid(Long auctionId, BidResponse bid) {
+        byte[] binary = wireCodecNegotiator.hasBinarySessions() ? AuctionBinaryCodec.encodeBid(bid) : null;
+        messagingTemplate.convertAndSend(auctionTopic(auctionId, BIDS), bid,
+                hotFrameHeaders(bid.getPlayerId(), false, binary));
+    }
+
+    public void broadcastPlayerUpdate(Long auctionId, Long playerId) {
+        messagingTemplate.convertAndSend(auctionTopic(auctionId, PLAYERS), playerId);
+    }
+
+    public void broadcastTeamUpdate(Long auctionId, Long teamId) {
+        messagingTemplate.convertAndSend(auctionTopic(auctionId, TEAMS), teamId);
+    }
+
+    public void broadcastLotCountdown(Long auctionId, LotCountdownResponse countdown) {
+        boolean closed = LotPhase.CLOSED.name().equals(countdown.getPhase());
+        byte[] binary = wireCodecNegotiator.hasBinarySessions() ? AuctionBinaryCodec.encodeLot(countdown) : null;
+        messagingTemplate.convertAndSend(auctionTopic(auctionId, LOTS), countdown,
+                hotFrameHeaders(countdown.getPlayerId(), closed, binary));
+    }
+
+    // Slow clients may skip intermediate prices for a player, never the close. The
+    // binary form is encoded once here and swapped in for sessions that asked for it
+    private static MessageHeaders hotFrameHeaders(Long playerId, boolean terminal, byte[] binary) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setNativeHeader(OutboundConflator.KEY_HEADER, String.valueOf(playerId));
+        accessor.setNativeHeader(OutboundConflator.TERMINAL_HEADER, String.valueOf(terminal));
+        if (binary != null) {
+            accessor.setHeader(WireCodecNegotiator.BINARY_PAYLOAD_HEADER, binary);
+        }
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    public void broadcastDelta(AuctionDeltaResponse delta) {
+        messagingTemplate.convertAndSend(auctionTopic(delta.getAuctionId(), DELTAS), delta);
+    }
+
+    public void broadcastOverlay(Long auctionId, OverlayFrameResponse frame) {
+        messagingTemplate.convertAndSend(auctionTopic(auctionId, OVERLAY), frame);
     }
 
-    public void broadcastPlayerUpdate(Long playerId) {
-        messagingTemplate.convertAndSend("/topic/players/" + playerId, "update");
+    public void broadcastPresence(Long auctionId, PresenceResponse presence) {
+        messagingTemplate.convertAndSend(auctionTopic(auctionId, PRESENCE), presence);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,212 @@
+package com.auction.cricket.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules large numbers of short-lived timeouts on a single thread. Timeouts
+ * are hashed into a ring of buckets by deadline; each tick the worker expires
+ * one bucket, so scheduling and cancelling are O(1) regardless of how many
+ * timeouts are pending. A timeout fires at most one tick late, never early.
+ * Tasks run on the worker thread and must hand any real work off elsewhere.
+ */
+public final class HashedTimingWheel {
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    public interface Timeout {
+        /** Returns {@code false} if the timeout already fired or was cancelled. */
+        boolean cancel();
+
+        boolean isCancelled();
+    }
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick;
+
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        this(name, tickDuration, unit, ticksPerWheel, System::nanoTime, true);
+    }
+
+    /** With {@code startWorker} false, ticks only advance through {@link #runDueTicks()}. */
+    HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel, LongSupplier clock,
+            boolean startWorker) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(ticksPerWheel, 1) * 2 - 1);
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        if (startWorker) {
+            this.worker.start();
+        }
+    }
+
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel has been stopped");
+        }
+        Entry entry = new Entry(task, clock.getAsLong() - startNanos + unit.toNanos(Math.max(delay, 0)));
+        pending.add(entry);
+        return entry;
+    }
+
+    public void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        if (!worker.isAlive()) {
+            return;
+        }
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            long now;
+            while ((now = clock.getAsLong()) < deadline && running) {
+                LockSupport.parkNanos(deadline - now);
+            }
+            if (!running) {
+                break;
+            }
+            runDueTicks();
+        }
+    }
+
+    /** Expires every bucket whose tick has ended by the clock's current time. */
+    void runDueTicks() {
+        while (clock.getAsLong() >= startNanos + (tick + 1) * tickNanos) {
+            transferPending();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            if (entry.state != Entry.PENDING) {
+                continue;
+            }
+            long dueTick = entry.deadline / tickNanos;
+            entry.remainingRounds = (dueTick - tick) / wheel.length;
+            // Anything already overdue goes into the bucket expired this tick
+            long targetTick = Math.max(dueTick, tick);
+            wheel[(int) (targetTick & mask)].add(entry);
+        }
+    }
+
+    private static final class Entry implements Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Entry> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state");
+
+        final Runnable task;
+        final long deadline;
+        volatile int state = PENDING;
+        long remainingRounds;
+        Entry prev;
+        Entry next;
+
+        Entry(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            // Left in its bucket; the worker unlinks it when the bucket comes round
+            return STATE.compareAndSet(this, PENDING, CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        void expire() {
+            if (STATE.compareAndSet(this, PENDING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Timing wheel task failed", e);
+                }
+            }
+        }
+    }
+
+    // Only touched by the worker thread
+    private static final class Bucket {
+        private Entry head;
+        private Entry tail;
+
+        void add(Entry entry) {
+            if (tail == null) {
+                head = tail = entry;
+            } else {
+                tail.next = entry;
+                entry.prev = tail;
+                tail = entry;
+            }
+        }
+
+        void expire() {
+            Entry entry = head;
+            while (entry != null) {
+                Entry next = entry.next;
+                if (entry.state != Entry.PENDING) {
+                    remove(entry);
+                } else if (entry.remainingRounds <= 0) {
+                    remove(entry);
+                    entry.expire();
+                } else {
+                    entry.remainingRounds--;
+                }
+                entry = next;
+            }
+        }
+
+        private void remove(Entry entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            } else {
+                tail = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+}
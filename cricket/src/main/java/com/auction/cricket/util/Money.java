@@ -0,0 +1,35 @@
+package com.auction.cricket.util;
+
+/**
+ * Conversions between the {@code Double} amounts used by the API and the
+ * database and the {@code long} minor units (hundredths) used for all money
+ * arithmetic in the bidding path.
+ */
+public final class Money {
+
+    public static final long MINOR_PER_MAJOR = 100;
+
+    private Money() {
+    }
+
+    public static long toMinor(double amount) {
+        return Math.round(amount * MINOR_PER_MAJOR);
+    }
+
+    public static long toMinor(Double amount) {
+        return amount != null ? toMinor(amount.doubleValue()) : 0L;
+    }
+
+    public static double toMajor(long minor) {
+        return (double) minor / MINOR_PER_MAJOR;
+    }
+
+    /** Whole points, truncated the way {@code pointsUsed} has always been counted. */
+    public static int toPoints(long minor) {
+        return (int) (minor / MINOR_PER_MAJOR);
+    }
+
+    public static String format(long minor) {
+        return String.valueOf(toMajor(minor));
+    }
+}
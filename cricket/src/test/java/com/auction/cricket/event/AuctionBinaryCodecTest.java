@@ -0,0 +1,82 @@
+package com.auction.cricket.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.auction.cricket.dto.BidResponse;
+import com.auction.cricket.dto.TeamBidLimitResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Checks the binary bid frame's layout and that it stays a fraction of the
+ * size of the JSON frame clients get today.
+ */
+class AuctionBinaryCodecTest {
+
+	private static final int TEAMS = 10;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	@Test
+	void binaryBidFramesAreAQuarterOfTheJsonSize() throws Exception {
+		BidResponse bid = sampleBid();
+
+		byte[] json = objectMapper.writeValueAsBytes(bid);
+		byte[] binary = AuctionBinaryCodec.encodeBid(bid);
+
+		assertThat(binary.length * 4).isLessThan(json.length);
+	}
+
+	@Test
+	void bidFrameCarriesIdsAndMinorUnits() {
+		BidResponse bid = sampleBid();
+		ByteBuffer frame = ByteBuffer.wrap(AuctionBinaryCodec.encodeBid(bid));
+
+		assertThat(frame.get()).isEqualTo(AuctionBinaryCodec.VERSION);
+		assertThat(frame.get()).isEqualTo(AuctionBinaryCodec.BID_ACCEPTED);
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isEqualTo(4_321L);
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isEqualTo(87L);
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isEqualTo(3L);
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isEqualTo(1_250_000L);
+		AuctionBinaryCodec.getVarLong(frame);
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isEqualTo(1_300_000L + 1);
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isEqualTo(TEAMS);
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isEqualTo(1L);
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isEqualTo(8_400_000L);
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isZero();
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isEqualTo(11L + 1);
+		assertThat(AuctionBinaryCodec.getVarLong(frame)).isEqualTo(5_900_000L);
+	}
+
+	private static BidResponse sampleBid() {
+		BidResponse bid = new BidResponse();
+		bid.setPlayerId(87L);
+		bid.setPlayerName("Ravindra Jadeja");
+		bid.setTeamId(3L);
+		bid.setTeamName("Chennai Super Kings");
+		bid.setAmount(12_500.0);
+		bid.setTimestamp(LocalDateTime.of(2025, 3, 14, 19, 30, 12));
+		bid.setIsWinningBid(true);
+		bid.setSequence(4_321L);
+		bid.setNextValidBid(13_000.0);
+		List<TeamBidLimitResponse> limits = new ArrayList<>();
+		for (long teamId = 1; teamId <= TEAMS; teamId++) {
+			TeamBidLimitResponse limit = new TeamBidLimitResponse();
+			limit.setTeamId(teamId);
+			limit.setRemainingBudget(85_000.0 - teamId * 1_000);
+			limit.setReservedBudget(teamId == 3 ? 12_500.0 : 0.0);
+			limit.setOpenSlots(11);
+			limit.setMaxAllowableBid(60_000.0 - teamId * 1_000);
+			limits.add(limit);
+		}
+		bid.setTeamLimits(limits);
+		return bid;
+	}
+}
@@ -0,0 +1,174 @@
+package com.auction.cricket.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.auction.cricket.dto.BidResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Passes NOTIFY payloads between two relays by hand to check chunking,
+ * reassembly and per-origin dedup without a database.
+ */
+class PostgresEventRelayTest {
+
+	private static final long IDLE_MS = 60_000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private final List<AuctionEvent> received = new ArrayList<>();
+	private PostgresEventRelay sender;
+	private PostgresEventRelay receiver;
+
+	@BeforeEach
+	void setUp() {
+		sender = relay();
+		receiver = relay();
+	}
+
+	@Test
+	void largeBatchesAreSplitUnderTheNotifyLimitAndReassembledInOrder() {
+		List<PostgresEventRelay.Outgoing> batch = new ArrayList<>();
+		for (long i = 1; i <= 500; i++) {
+			batch.add(new PostgresEventRelay.Outgoing(i, new PlayerUpdatedEvent(i % 2 + 1, i)));
+		}
+
+		List<PostgresEventRelay.Notification> notifications = sender.encode(batch);
+
+		assertThat(notifications).hasSizeGreaterThan(2);
+		assertThat(notifications).allSatisfy(notification -> assertThat(
+				notification.payload().getBytes(StandardCharsets.UTF_8).length)
+				.isLessThanOrEqualTo(PostgresEventRelay.MAX_PAYLOAD_BYTES));
+		assertThat(notifications).extracting(PostgresEventRelay.Notification::channel)
+				.containsOnly(PostgresEventRelay.CHANNEL_PREFIX + 1, PostgresEventRelay.CHANNEL_PREFIX + 2);
+
+		notifications.forEach(notification -> receive(receiver, notification, 0));
+
+		assertThat(received).hasSize(500);
+		for (long auctionId = 1; auctionId <= 2; auctionId++) {
+			long auction = auctionId;
+			assertThat(received.stream().filter(event -> event.auctionId() == auction)
+					.map(event -> ((PlayerUpdatedEvent) event).playerId()))
+					.isSorted();
+		}
+	}
+
+	@Test
+	void eventsTooLargeForOnePayloadAreDroppedAndTheRestStillSent() {
+		BidResponse bid = new BidResponse();
+		bid.setPlayerName("x".repeat(PostgresEventRelay.MAX_PAYLOAD_BYTES));
+
+		List<PostgresEventRelay.Notification> notifications = sender.encode(List.of(
+				new PostgresEventRelay.Outgoing(1, new BidPlacedEvent(1L, bid)),
+				new PostgresEventRelay.Outgoing(2, new TeamUpdatedEvent(1L, 4L))));
+
+		assertThat(notifications).singleElement();
+		receive(receiver, notifications.get(0), 0);
+		assertThat(received).containsExactly(new TeamUpdatedEvent(1L, 4L));
+	}
+
+	@Test
+	void redeliveredAndOwnEventsAreDropped() {
+		List<PostgresEventRelay.Notification> first = sender.encode(outgoing(1, 3));
+		List<PostgresEventRelay.Notification> overlapping = sender.encode(outgoing(2, 5));
+
+		first.forEach(notification -> receive(receiver, notification, 0));
+		overlapping.forEach(notification -> receive(receiver, notification, 0));
+		first.forEach(notification -> receive(sender, notification, 0));
+
+		assertThat(received).extracting(event -> ((TeamUpdatedEvent) event).teamId())
+				.containsExactly(1L, 2L, 3L, 4L, 5L);
+	}
+
+	@Test
+	void sequencesAreTrackedPerChannel() {
+		// Auction 2's events carry higher sequence numbers but arrive first
+		List<PostgresEventRelay.Notification> notifications = sender.encode(List.of(
+				new PostgresEventRelay.Outgoing(1, new TeamUpdatedEvent(2L, 1L)),
+				new PostgresEventRelay.Outgoing(2, new TeamUpdatedEvent(1L, 2L)),
+				new PostgresEventRelay.Outgoing(3, new TeamUpdatedEvent(2L, 3L))));
+
+		receive(receiver, notifications.get(0), 0);
+		receive(receiver, notifications.get(1), 0);
+
+		assertThat(received).extracting(AuctionEvent::auctionId).containsExactly(2L, 2L, 1L);
+	}
+
+	@Test
+	void eventsQueuedOutOfPublishOrderAreAllDelivered() throws InterruptedException {
+		// Publishers race to the queue, each event landing in whatever order they get there
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> publishers = new ArrayList<>();
+		for (long thread = 0; thread < 4; thread++) {
+			long offset = thread * 25;
+			publishers.add(Thread.startVirtualThread(() -> {
+				awaitQuietly(start);
+				for (long i = 1; i <= 25; i++) {
+					sender.publish(new TeamUpdatedEvent(1L, offset + i));
+				}
+			}));
+		}
+		start.countDown();
+		for (Thread publisher : publishers) {
+			publisher.join();
+		}
+
+		sender.encode(sender.nextBatch()).forEach(notification -> receive(receiver, notification, 0));
+
+		assertThat(received).hasSize(100);
+		assertThat(received).extracting(event -> ((TeamUpdatedEvent) event).teamId())
+				.containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, 100).boxed().toList());
+	}
+
+	@Test
+	void originsIdleLongerThanTheWindowAreForgotten() {
+		PostgresEventRelay other = relay();
+		long idle = TimeUnit.MILLISECONDS.toNanos(IDLE_MS);
+		receive(receiver, sender.encode(outgoing(1, 1)).get(0), 0);
+		receive(receiver, other.encode(outgoing(1, 1)).get(0), idle);
+		assertThat(receiver.knownStreams()).isEqualTo(2);
+
+		// Only the sender has been silent for longer than the window
+		receive(receiver, other.encode(outgoing(2, 2)).get(0), idle + 1);
+
+		assertThat(receiver.knownStreams()).isEqualTo(1);
+	}
+
+	private static void receive(PostgresEventRelay relay, PostgresEventRelay.Notification notification, long nowNanos) {
+		relay.receive(notification.channel(), notification.payload(), nowNanos);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static List<PostgresEventRelay.Outgoing> outgoing(long from, long to) {
+		return LongStream.rangeClosed(from, to)
+				.mapToObj(sequence -> new PostgresEventRelay.Outgoing(sequence, new TeamUpdatedEvent(1L, sequence)))
+				.toList();
+	}
+
+	private PostgresEventRelay relay() {
+		return new PostgresEventRelay(mock(DataSourceProperties.class), mock(JdbcTemplate.class), objectMapper,
+				event -> received.add(((RemoteAuctionEvent) event).event()), new SimpleMeterRegistry(), 5, 256, 100,
+				250, IDLE_MS);
+	}
+}
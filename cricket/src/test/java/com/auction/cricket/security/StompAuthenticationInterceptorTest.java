@@ -0,0 +1,63 @@
+package com.auction.cricket.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.auction.cricket.repository.AuctionRepository;
+
+/**
+ * Checks that organizer checks hit the database at most once per auction
+ * within the cache window, whatever the answer.
+ */
+class StompAuthenticationInterceptorTest {
+
+	private static final long AUCTION_ID = 5L;
+	private static final String USERNAME = "viewer";
+
+	private AuctionRepository auctionRepository;
+	private StompPrincipal principal;
+
+	@BeforeEach
+	void setUp() {
+		auctionRepository = mock(AuctionRepository.class);
+		principal = new StompPrincipal(USERNAME, Long.MAX_VALUE, List.of());
+	}
+
+	@Test
+	void notOrganizingIsCachedForTheWindow() {
+		StompAuthenticationInterceptor interceptor = interceptor(60_000);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(interceptor.isOrganizer(principal, AUCTION_ID)).isFalse();
+		}
+
+		verify(auctionRepository).existsByIdAndCreatedByUsername(AUCTION_ID, USERNAME);
+	}
+
+	@Test
+	void notOrganizingIsCheckedAgainOnceTheWindowHasPassed() {
+		StompAuthenticationInterceptor interceptor = interceptor(0);
+		assertThat(interceptor.isOrganizer(principal, AUCTION_ID)).isFalse();
+
+		// The user has since created an auction with this id
+		when(auctionRepository.existsByIdAndCreatedByUsername(AUCTION_ID, USERNAME)).thenReturn(true);
+		assertThat(interceptor.isOrganizer(principal, AUCTION_ID)).isTrue();
+		assertThat(interceptor.isOrganizer(principal, AUCTION_ID)).isTrue();
+
+		verify(auctionRepository, times(2)).existsByIdAndCreatedByUsername(AUCTION_ID, USERNAME);
+	}
+
+	private StompAuthenticationInterceptor interceptor(long notOrganizerCacheMs) {
+		return new StompAuthenticationInterceptor(mock(JwtUtil.class), mock(UserDetailsService.class),
+				auctionRepository, notOrganizerCacheMs);
+	}
+}
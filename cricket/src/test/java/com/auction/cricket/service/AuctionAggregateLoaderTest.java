@@ -0,0 +1,216 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auction.cricket.dto.AuctionResponse;
+import com.auction.cricket.entity.Auction;
+import com.auction.cricket.entity.BidRule;
+import com.auction.cricket.entity.Category;
+import com.auction.cricket.entity.PlayerStatus;
+import com.auction.cricket.entity.User;
+import com.auction.cricket.repository.BidRuleRepository;
+import com.auction.cricket.repository.CategoryRepository;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.PlayerRow;
+import com.auction.cricket.repository.TeamRoleStats;
+import com.auction.cricket.repository.TeamRepository;
+import com.auction.cricket.repository.TeamRow;
+
+/**
+ * Checks that building auction responses costs the same number of repository
+ * calls for one auction as for many.
+ */
+class AuctionAggregateLoaderTest {
+
+	private static final int TEAMS_PER_AUCTION = 4;
+	private static final int PLAYERS_PER_AUCTION = 10;
+
+	private TeamRepository teamRepository;
+	private PlayerRepository playerRepository;
+	private CategoryRepository categoryRepository;
+	private BidRuleRepository bidRuleRepository;
+	private AccessEntitlementService accessEntitlementService;
+	private AuctionAggregateLoader loader;
+
+	private final User owner = new User();
+	private final List<Auction> auctions = new ArrayList<>();
+	private final List<TeamRow> teams = new ArrayList<>();
+	private final List<PlayerRow> players = new ArrayList<>();
+	private final List<Category> categories = new ArrayList<>();
+	private final List<BidRule> bidRules = new ArrayList<>();
+	private final List<TeamRoleStats> stats = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		teamRepository = mock(TeamRepository.class);
+		playerRepository = mock(PlayerRepository.class);
+		categoryRepository = mock(CategoryRepository.class);
+		bidRuleRepository = mock(BidRuleRepository.class);
+		accessEntitlementService = mock(AccessEntitlementService.class);
+		loader = new AuctionAggregateLoader(teamRepository, new TeamStatsCache(playerRepository), playerRepository,
+				categoryRepository,
+				bidRuleRepository, accessEntitlementService, mock(TeamService.class, CALLS_REAL_METHODS),
+				mock(PlayerService.class, CALLS_REAL_METHODS), mock(CategoryService.class, CALLS_REAL_METHODS));
+		owner.setUsername("organizer");
+
+		when(teamRepository.findRowsByAuctionIdIn(anyCollection())).thenAnswer(call -> teams);
+		when(playerRepository.findTeamRoleStatsByAuctionIdIn(anyCollection())).thenAnswer(call -> {
+			Collection<Long> ids = call.getArgument(0);
+			return stats.stream().filter(row -> ids.contains(row.getAuctionId())).toList();
+		});
+		when(playerRepository.findRowsByAuctionIdIn(anyCollection())).thenAnswer(call -> players);
+		when(categoryRepository.findByAuctionIdIn(anyCollection())).thenAnswer(call -> categories);
+		when(bidRuleRepository.findByAuctionIdIn(anyCollection())).thenAnswer(call -> bidRules);
+		when(accessEntitlementService.premiumAuctionIds(eq("organizer"), anyCollection()))
+				.thenAnswer(call -> Set.copyOf(call.<Collection<Long>>getArgument(1)));
+	}
+
+	@Test
+	void repositoryCallsDoNotGrowWithTheNumberOfAuctions() {
+		createAuctions(1);
+		List<AuctionResponse> single = loader.load(List.copyOf(auctions), "organizer");
+		assertThat(single).hasSize(1);
+		verifyCallsPerLoad(1);
+
+		createAuctions(49);
+		List<AuctionResponse> many = loader.load(List.copyOf(auctions), "organizer");
+		assertThat(many).hasSize(50);
+		verifyCallsPerLoad(2);
+	}
+
+	@Test
+	void cachedTeamStatsAreNotQueriedAgain() {
+		createAuctions(5);
+		loader.load(List.copyOf(auctions), "organizer");
+		List<AuctionResponse> again = loader.load(List.copyOf(auctions), "organizer");
+
+		verify(playerRepository, times(1)).findTeamRoleStatsByAuctionIdIn(anyCollection());
+		assertThat(again.get(0).getTeams().get(0).getPlayersCount()).isEqualTo(PLAYERS_PER_AUCTION / 2);
+	}
+
+	@Test
+	void childrenAreGroupedUnderTheirOwnAuction() {
+		createAuctions(3);
+		List<AuctionResponse> responses = loader.load(List.copyOf(auctions), "organizer");
+
+		for (int i = 0; i < responses.size(); i++) {
+			AuctionResponse response = responses.get(i);
+			assertThat(response.getId()).isEqualTo(auctions.get(i).getId());
+			assertThat(response.getCreatedBy()).isEqualTo("organizer");
+			assertThat(response.getTeams()).hasSize(TEAMS_PER_AUCTION)
+					.allSatisfy(team -> assertThat(team.getAuctionName()).isEqualTo(response.getName()));
+			assertThat(response.getTeams().get(0).getPlayersCount()).isEqualTo(PLAYERS_PER_AUCTION / 2);
+			assertThat(response.getTeams().get(0).getPointsUsed()).isEqualTo(50);
+			assertThat(response.getTeams().get(0).getRoleCounts()).containsEntry("Batsman", 3).containsEntry("Bowler", 2);
+			assertThat(response.getPlayers()).hasSize(PLAYERS_PER_AUCTION);
+			assertThat(response.getCategories()).hasSize(2);
+			assertThat(response.getBidRules()).hasSize(1);
+		}
+	}
+
+	@Test
+	void bidRulesAreSkippedWithoutPremiumAccess() {
+		createAuctions(3);
+		List<AuctionResponse> responses = loader.load(List.copyOf(auctions), null);
+
+		assertThat(responses).allSatisfy(response -> assertThat(response.getBidRules()).isEmpty());
+		verify(bidRuleRepository, times(0)).findByAuctionIdIn(any());
+	}
+
+	private void verifyCallsPerLoad(int loads) {
+		verify(teamRepository, times(loads)).findRowsByAuctionIdIn(anyCollection());
+		verify(playerRepository, times(loads)).findTeamRoleStatsByAuctionIdIn(anyCollection());
+		verify(playerRepository, times(loads)).findRowsByAuctionIdIn(anyCollection());
+		verify(categoryRepository, times(loads)).findByAuctionIdIn(anyCollection());
+		verify(bidRuleRepository, times(loads)).findByAuctionIdIn(anyCollection());
+		verify(accessEntitlementService, times(loads)).premiumAuctionIds(eq("organizer"), anyCollection());
+		// In particular no per-team count and sum queries
+		verifyNoMoreInteractions(teamRepository, playerRepository, categoryRepository, bidRuleRepository,
+				accessEntitlementService);
+	}
+
+	private void createAuctions(int count) {
+		for (int n = 0; n < count; n++) {
+			long auctionId = auctions.size() + 1;
+			Auction auction = new Auction();
+			auction.setId(auctionId);
+			auction.setName("Auction " + auctionId);
+			auction.setCreatedBy(owner);
+			auctions.add(auction);
+
+			for (int t = 0; t < TEAMS_PER_AUCTION; t++) {
+				teams.add(new TeamRow(auctionId * 100 + t, auctionId, auction.getName(), "Team " + t, 100.0, 100.0,
+						true, null));
+			}
+			stats.add(stats(auctionId, auctionId * 100, "Batsman", 3, 30.0));
+			stats.add(stats(auctionId, auctionId * 100, "Bowler", 2, 20.0));
+
+			for (int p = 0; p < PLAYERS_PER_AUCTION; p++) {
+				boolean sold = p % 2 == 0;
+				players.add(new PlayerRow(auctionId * 1000 + p, auctionId, "Player " + p, 25, "Batsman", null,
+						sold ? "Team 0" : null, sold ? PlayerStatus.SOLD : PlayerStatus.AVAILABLE,
+						sold ? 10.0 : 5.0, null, false));
+			}
+			for (int c = 0; c < 2; c++) {
+				Category category = new Category();
+				category.setId(auctionId * 10 + c);
+				category.setName("Category " + c);
+				category.setAuction(auction);
+				categories.add(category);
+			}
+			BidRule rule = new BidRule();
+			rule.setId(auctionId);
+			rule.setThresholdAmount(100.0);
+			rule.setIncrementAmount(10.0);
+			rule.setAuction(auction);
+			bidRules.add(rule);
+		}
+	}
+
+	private static TeamRoleStats stats(Long auctionId, Long teamId, String role, long playersCount,
+			Double soldTotal) {
+		return new TeamRoleStats() {
+			@Override
+			public Long getAuctionId() {
+				return auctionId;
+			}
+
+			@Override
+			public Long getTeamId() {
+				return teamId;
+			}
+
+			@Override
+			public String getRole() {
+				return role;
+			}
+
+			@Override
+			public long getPlayersCount() {
+				return playersCount;
+			}
+
+			@Override
+			public Double getSoldTotal() {
+				return soldTotal;
+			}
+		};
+	}
+}
@@ -0,0 +1,102 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auction.cricket.dto.AuctionResponse;
+import com.auction.cricket.dto.AuctionSnapshotResponse;
+import com.auction.cricket.dto.PlayerResponse;
+import com.auction.cricket.dto.TeamResponse;
+import com.auction.cricket.entity.PlayerStatus;
+import com.auction.cricket.repository.AuctionRepository;
+
+/**
+ * Checks that a snapshot shows bids the book has accepted but the
+ * write-behind has not persisted yet, at the version read from the book.
+ */
+class AuctionSyncServiceTest {
+
+	private static final long AUCTION_ID = 4L;
+	private static final long TEAM_ID = 2L;
+
+	private BidBookService bidBookService;
+	private AuctionSyncService syncService;
+
+	@BeforeEach
+	void setUp() {
+		AuctionService auctionService = mock(AuctionService.class);
+		TeamService teamService = mock(TeamService.class);
+		PlayerService playerService = mock(PlayerService.class);
+		AuctionRepository auctionRepository = mock(AuctionRepository.class);
+		bidBookService = mock(BidBookService.class);
+		when(auctionRepository.existsById(AUCTION_ID)).thenReturn(true);
+
+		// What the database shows: both players still available, nothing spent
+		AuctionResponse auction = new AuctionResponse();
+		auction.setPlayers(List.of(player(10L, "Bowler"), player(11L, "Batsman")));
+		auction.setTeams(List.of(team()));
+		when(auctionService.getAuctionById(AUCTION_ID, "organizer")).thenReturn(auction);
+		when(teamService.getTeamsByAuction(AUCTION_ID)).thenReturn(List.of(team()));
+		when(playerService.getAvailablePlayers(AUCTION_ID))
+				.thenReturn(new ArrayList<>(List.of(player(10L, "Bowler"), player(11L, "Batsman"))));
+
+		syncService = new AuctionSyncService(auctionService, teamService, playerService, auctionRepository,
+				mock(AuctionDeltaLog.class), bidBookService);
+	}
+
+	@Test
+	void showsBookStateTheDatabaseHasNotCaughtUpWith() {
+		// Player 10 sold for 150 and player 11 bid up to 120, neither persisted yet
+		when(bidBookService.snapshot(eq(AUCTION_ID), any(LongSupplier.class))).thenReturn(new BidBookSnapshot(7,
+				Map.of(10L, new BidBookSnapshot.Lot(PlayerStatus.SOLD, 150.0, TEAM_ID, "Strikers"),
+						11L, new BidBookSnapshot.Lot(PlayerStatus.AVAILABLE, 120.0, TEAM_ID, "Strikers")),
+				Map.of(TEAM_ID, 850.0)));
+
+		AuctionSnapshotResponse snapshot = syncService.getSnapshot(AUCTION_ID, "organizer");
+
+		assertThat(snapshot.getVersion()).isEqualTo(7L);
+		assertThat(snapshot.getAvailablePlayers()).singleElement().satisfies(player -> {
+			assertThat(player.getId()).isEqualTo(11L);
+			assertThat(player.getCurrentPrice()).isEqualTo(120.0);
+		});
+		PlayerResponse sold = snapshot.getAuction().getPlayers().get(0);
+		assertThat(sold.isSold()).isTrue();
+		assertThat(sold.getTeamName()).isEqualTo("Strikers");
+		for (TeamResponse team : List.of(snapshot.getTeams().get(0), snapshot.getAuction().getTeams().get(0))) {
+			assertThat(team.getRemainingBudget()).isEqualTo(850.0);
+			assertThat(team.getPlayersCount()).isEqualTo(1);
+			assertThat(team.getPointsUsed()).isEqualTo(150);
+			assertThat(team.getRoleCounts()).containsEntry("Bowler", 1);
+		}
+	}
+
+	private static PlayerResponse player(long id, String role) {
+		PlayerResponse player = new PlayerResponse();
+		player.setId(id);
+		player.setRole(role);
+		player.setStatus(PlayerStatus.AVAILABLE.name());
+		player.setCurrentPrice(100.0);
+		return player;
+	}
+
+	private static TeamResponse team() {
+		TeamResponse team = new TeamResponse();
+		team.setId(TEAM_ID);
+		team.setRemainingBudget(1_000.0);
+		team.setPointsUsed(0);
+		team.setPlayersCount(0);
+		team.setRoleCounts(Map.of());
+		return team;
+	}
+}
@@ -0,0 +1,226 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.auction.cricket.entity.Player;
+import com.auction.cricket.entity.Team;
+import com.auction.cricket.repository.BidRepository;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.TeamRepository;
+
+/**
+ * Checks that journal segments outlive the database writes they back up.
+ */
+class BidJournalTest {
+
+	private static final long AUCTION_ID = 5L;
+	// Two records per segment, so the third append rolls
+	private static final int SEGMENT_SIZE = BidJournal.HEADER_SIZE + 2 * BidJournal.RECORD_SIZE;
+
+	@TempDir
+	Path directory;
+
+	private BidWriteBehindService writeBehindService;
+	private BidJournal journal;
+
+	@BeforeEach
+	void setUp() {
+		writeBehindService = mock(BidWriteBehindService.class);
+		when(writeBehindService.durableSequence(anyLong())).thenReturn(0L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (journal != null) {
+			journal.stop();
+		}
+	}
+
+	@Test
+	void rollingLeavesTheFinishedSegmentUntilItIsPersisted() throws IOException {
+		journal = start();
+		for (long sequence = 1; sequence <= 3; sequence++) {
+			journal.append(bid(sequence));
+		}
+		verify(writeBehindService, never()).flushNow();
+		assertThat(segments()).hasSize(2);
+
+		when(writeBehindService.durableSequence(AUCTION_ID)).thenReturn(1L);
+		journal.pruneRetired();
+		assertThat(segments()).hasSize(2);
+
+		when(writeBehindService.durableSequence(AUCTION_ID)).thenReturn(2L);
+		journal.pruneRetired();
+		assertThat(segments()).hasSize(1);
+	}
+
+	@Test
+	void startupKeepsSegmentsWhoseReplayDidNotPersist() throws IOException {
+		journal = start();
+		journal.append(bid(1));
+		journal.append(bid(2));
+		journal.stop();
+
+		// The database never catches up, as when every replayed write fails
+		journal = start();
+		verify(writeBehindService, times(2)).enqueue(any());
+		verify(writeBehindService).flushNow();
+		assertThat(segments()).hasSize(2);
+
+		journal.stop();
+		when(writeBehindService.durableSequence(AUCTION_ID)).thenReturn(2L);
+		when(writeBehindService.persistedSequences(AUCTION_ID, 1, 2)).thenReturn(Set.of(1L, 2L));
+		journal = start();
+		verify(writeBehindService, times(2)).enqueue(any());
+		assertThat(segments()).hasSize(1);
+	}
+
+	@Test
+	void failedMiddleEntryKeepsItsSegment() throws IOException {
+		BidRepository bidRepository = mock(BidRepository.class);
+		PlayerRepository playerRepository = mock(PlayerRepository.class);
+		TeamRepository teamRepository = mock(TeamRepository.class);
+		OptimisticRetryExecutor retryExecutor = mock(OptimisticRetryExecutor.class);
+		doAnswer(call -> {
+			call.<Runnable>getArgument(1).run();
+			return null;
+		}).when(retryExecutor).run(anyString(), any());
+		when(playerRepository.findById(11L)).thenReturn(Optional.of(new Player()));
+		when(teamRepository.findById(21L)).thenReturn(Optional.of(new Team()));
+		when(bidRepository.save(argThat(bid -> bid.getSequence() == 2)))
+				.thenThrow(new QueryTimeoutException("timeout"));
+		writeBehindService = new BidWriteBehindService(bidRepository, playerRepository, teamRepository,
+				retryExecutor, mock(TeamStatsCache.class), 200, 50, 100, 60_000, 60_000);
+
+		journal = start();
+		for (long sequence = 1; sequence <= 3; sequence++) {
+			journal.append(bid(sequence));
+			writeBehindService.enqueue(bid(sequence));
+		}
+		writeBehindService.flushNow();
+		// Bid 3 reached the database, so its sequence is the highest there
+		when(bidRepository.findMaxSequenceByAuctionId(AUCTION_ID)).thenReturn(3L);
+
+		journal.pruneRetired();
+		assertThat(segments()).hasSize(2);
+		assertThat(writeBehindService.durableSequence(AUCTION_ID)).isEqualTo(1L);
+
+		// After a restart only the hole below the highest sequence is replayed
+		journal.stop();
+		when(bidRepository.findSequencesByAuctionIdBetween(eq(AUCTION_ID), anyLong(), anyLong()))
+				.thenReturn(List.of(1L, 3L));
+		writeBehindService = spy(new BidWriteBehindService(bidRepository, playerRepository, teamRepository,
+				retryExecutor, mock(TeamStatsCache.class), 200, 50, 100, 60_000, 60_000));
+		journal = start();
+		verify(writeBehindService).enqueue(argThat(entry -> entry.sequence() == 2));
+		verify(writeBehindService, times(1)).enqueue(any());
+	}
+
+	@Test
+	void replayReadsBackWhatWasAppended() throws IOException {
+		journal = start();
+		journal.append(bid(1));
+		journal.append(new LotClosed(AUCTION_ID, 11L, null, 0, LocalDateTime.now(), 2));
+
+		List<BidBookEntry> entries = journal.readSegment(segments().get(0));
+
+		assertThat(entries).hasSize(2);
+		assertThat(entries.get(0)).isInstanceOf(AcceptedBid.class);
+		assertThat(((AcceptedBid) entries.get(0)).amount()).isEqualTo(10_000);
+		assertThat(entries.get(1)).isInstanceOfSatisfying(LotClosed.class,
+				closed -> assertThat(closed.teamId()).isNull());
+	}
+
+	@Test
+	void replaysSegmentsWrittenByOlderFormats() throws IOException {
+		// Version 1: bids only, amount as a major-unit double
+		ByteBuffer v1 = segment(1, 2, BidJournal.V1_RECORD_SIZE);
+		v1.putLong(AUCTION_ID).putLong(11L).putLong(21L).putDouble(150.5).putLong(0L).putLong(1L);
+		writeSegment(0, v1, BidJournal.V1_RECORD_SIZE);
+		// Version 2: typed records, amount still a double
+		ByteBuffer v2 = segment(2, 1, BidJournal.RECORD_SIZE);
+		v2.putInt(2).putLong(AUCTION_ID).putLong(11L).putLong(21L).putDouble(150.5).putLong(0L).putLong(2L);
+		writeSegment(1, v2, BidJournal.RECORD_SIZE);
+
+		journal = start();
+
+		verify(writeBehindService).enqueue(argThat(entry -> entry instanceof AcceptedBid bid
+				&& bid.amount() == 15_050 && bid.sequence() == 1));
+		verify(writeBehindService).enqueue(argThat(entry -> entry instanceof LotClosed closed
+				&& closed.amount() == 15_050 && closed.teamId() == 21L && closed.sequence() == 2));
+	}
+
+	@Test
+	void startupLeavesSegmentsOfUnknownFormatsInPlace() throws IOException {
+		ByteBuffer future = segment(BidJournal.FORMAT_VERSION + 1, 0, BidJournal.RECORD_SIZE);
+		writeSegment(0, future, BidJournal.RECORD_SIZE);
+
+		journal = start();
+
+		verify(writeBehindService, never()).enqueue(any());
+		assertThat(segments()).hasSize(2);
+	}
+
+	private static ByteBuffer segment(int version, int records, int recordSize) {
+		ByteBuffer buffer = ByteBuffer.allocate(BidJournal.HEADER_SIZE + records * recordSize);
+		buffer.putInt(BidJournal.MAGIC).putInt(version).putLong(0L);
+		return buffer;
+	}
+
+	/** Seals each record written so far with its checksum and writes the segment file. */
+	private void writeSegment(long number, ByteBuffer buffer, int recordSize) throws IOException {
+		CRC32 crc = new CRC32();
+		for (int start = BidJournal.HEADER_SIZE; start + recordSize <= buffer.position() + 4; start += recordSize) {
+			crc.reset();
+			crc.update(buffer.slice(start, recordSize - 4));
+			buffer.putInt(start + recordSize - 4, (int) crc.getValue());
+		}
+		Files.write(directory.resolve(String.format("bids-%020d.journal", number)), buffer.array());
+	}
+
+	private BidJournal start() throws IOException {
+		BidJournal started = new BidJournal(writeBehindService, true, directory.toString(), SEGMENT_SIZE,
+				BidJournal.FsyncPolicy.NONE, 10, 60_000);
+		started.start();
+		return started;
+	}
+
+	private static AcceptedBid bid(long sequence) {
+		return new AcceptedBid(AUCTION_ID, 11L, 21L, 10_000, LocalDateTime.now(), sequence);
+	}
+
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.sorted().toList();
+		}
+	}
+}
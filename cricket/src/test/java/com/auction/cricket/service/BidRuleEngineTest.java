@@ -0,0 +1,73 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auction.cricket.entity.Auction;
+import com.auction.cricket.entity.BidRule;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.repository.BidRuleRepository;
+
+/**
+ * Checks that compiled rules are served from memory and that a compile racing
+ * an invalidation is not cached.
+ */
+class BidRuleEngineTest {
+
+	private static final long AUCTION_ID = 3L;
+
+	private BidRuleRepository bidRuleRepository;
+	private BidRuleEngine engine;
+
+	@BeforeEach
+	void setUp() {
+		bidRuleRepository = mock(BidRuleRepository.class);
+		AuctionRepository auctionRepository = mock(AuctionRepository.class);
+		Auction auction = new Auction();
+		auction.setId(AUCTION_ID);
+		auction.setBidIncreaseBy(10.0);
+		auction.setMinimumBid(100.0);
+		when(auctionRepository.findById(AUCTION_ID)).thenReturn(Optional.of(auction));
+		engine = new BidRuleEngine(bidRuleRepository, auctionRepository);
+	}
+
+	@Test
+	void rulesAreCompiledOnceUntilInvalidated() {
+		when(bidRuleRepository.findByAuctionIdOrderByThresholdAmountAsc(AUCTION_ID)).thenReturn(List.of());
+
+		CompiledBidRules first = engine.rulesFor(AUCTION_ID);
+		assertThat(engine.rulesFor(AUCTION_ID)).isSameAs(first);
+		engine.invalidate(AUCTION_ID);
+		assertThat(engine.rulesFor(AUCTION_ID)).isNotSameAs(first);
+
+		verify(bidRuleRepository, times(2)).findByAuctionIdOrderByThresholdAmountAsc(AUCTION_ID);
+	}
+
+	@Test
+	void compileThatRacedAnInvalidationIsNotCached() {
+		BidRule rule = new BidRule();
+		rule.setThresholdAmount(200.0);
+		rule.setIncrementAmount(50.0);
+		// The edit commits while the stale rules are being read
+		when(bidRuleRepository.findByAuctionIdOrderByThresholdAmountAsc(AUCTION_ID)).thenAnswer(call -> {
+			engine.invalidate(AUCTION_ID);
+			return List.of();
+		}).thenReturn(List.of(rule));
+
+		CompiledBidRules stale = engine.rulesFor(AUCTION_ID);
+		CompiledBidRules fresh = engine.rulesFor(AUCTION_ID);
+
+		assertThat(fresh).isNotSameAs(stale);
+		assertThat(fresh.incrementAt(20_000)).isEqualTo(5_000);
+		assertThat(engine.rulesFor(AUCTION_ID)).isSameAs(fresh);
+	}
+}
@@ -0,0 +1,96 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.auction.cricket.entity.Bid;
+import com.auction.cricket.entity.Player;
+import com.auction.cricket.entity.Team;
+import com.auction.cricket.repository.BidRepository;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.TeamRepository;
+
+/**
+ * Checks that entries whose write fails are kept and retried rather than lost.
+ */
+class BidWriteBehindServiceTest {
+
+	private static final long AUCTION_ID = 5L;
+	private static final long PLAYER_ID = 11L;
+	private static final long TEAM_ID = 21L;
+
+	private BidRepository bidRepository;
+	private PlayerRepository playerRepository;
+	private Player player;
+	private BidWriteBehindService writeBehind;
+
+	@BeforeEach
+	void setUp() {
+		bidRepository = mock(BidRepository.class);
+		playerRepository = mock(PlayerRepository.class);
+		TeamRepository teamRepository = mock(TeamRepository.class);
+		OptimisticRetryExecutor retryExecutor = mock(OptimisticRetryExecutor.class);
+		doAnswer(call -> {
+			call.<Runnable>getArgument(1).run();
+			return null;
+		}).when(retryExecutor).run(anyString(), any());
+
+		player = new Player();
+		player.setId(PLAYER_ID);
+		Team team = new Team();
+		team.setId(TEAM_ID);
+		when(playerRepository.findById(PLAYER_ID)).thenReturn(Optional.of(player));
+		when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
+
+		writeBehind = new BidWriteBehindService(bidRepository, playerRepository, teamRepository, retryExecutor,
+				mock(TeamStatsCache.class), 200, 50, 100, 60_000, 60_000);
+	}
+
+	@Test
+	void failedEntryIsRetriedInsteadOfDropped() {
+		when(bidRepository.save(any())).thenThrow(new QueryTimeoutException("timeout"))
+				.thenThrow(new QueryTimeoutException("timeout"))
+				.thenAnswer(call -> call.getArgument(0));
+		writeBehind.enqueue(bid(1, 10_000));
+
+		writeBehind.flushNow();
+		assertThat(player.getCurrentBid()).isNull();
+
+		writeBehind.flushNow();
+		assertThat(player.getCurrentBid()).isNotNull();
+		assertThat(player.getCurrentBid().getSequence()).isEqualTo(1L);
+	}
+
+	@Test
+	void retriedBidDoesNotReplaceALaterOne() {
+		Bid later = new Bid();
+		later.setSequence(2L);
+		later.setIsWinningBid(true);
+		player.setCurrentBid(later);
+		player.setCurrentPrice(110.0);
+
+		writeBehind.enqueue(bid(1, 10_000));
+		writeBehind.flushNow();
+
+		assertThat(player.getCurrentBid()).isSameAs(later);
+		assertThat(later.getIsWinningBid()).isTrue();
+		assertThat(player.getCurrentPrice()).isEqualTo(110.0);
+		verify(bidRepository).save(any());
+	}
+
+	private static AcceptedBid bid(long sequence, long amount) {
+		return new AcceptedBid(AUCTION_ID, PLAYER_ID, TEAM_ID, amount, LocalDateTime.now(), sequence);
+	}
+}
@@ -0,0 +1,81 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auction.cricket.dto.BidResponse;
+import com.auction.cricket.dto.OverlayFrameResponse;
+import com.auction.cricket.dto.TeamBidLimitResponse;
+import com.auction.cricket.event.BidPlacedEvent;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.SponsorRepository;
+import com.auction.cricket.repository.TeamRepository;
+
+/**
+ * Checks that rendering an overlay never holds its state while waiting on the
+ * bid book, whose thread folds events into that same state.
+ */
+class OverlayStateServiceTest {
+
+	private static final long AUCTION_ID = 6L;
+
+	private BidBookService bidBookService;
+	private OverlayStateService overlayStateService;
+
+	@BeforeEach
+	void setUp() {
+		bidBookService = mock(BidBookService.class);
+		TeamRepository teamRepository = mock(TeamRepository.class);
+		PlayerRepository playerRepository = mock(PlayerRepository.class);
+		SponsorRepository sponsorRepository = mock(SponsorRepository.class);
+		when(teamRepository.findByAuctionId(AUCTION_ID)).thenReturn(List.of());
+		when(playerRepository.findById(10L)).thenReturn(Optional.empty());
+		when(sponsorRepository.findByAuctionIdOrderByIdAsc(AUCTION_ID)).thenReturn(List.of());
+		overlayStateService = new OverlayStateService(mock(WebSocketService.class), bidBookService, playerRepository,
+				teamRepository, sponsorRepository, 10, 10_000);
+	}
+
+	@Test
+	void bidFoldedInWhileTheBookIsQueriedIsNotBlockedOrOverwritten() {
+		// The book's thread publishes a bid before it gets round to answering
+		when(bidBookService.getBidLimits(AUCTION_ID)).thenAnswer(call -> {
+			CompletableFuture.runAsync(() -> overlayStateService.apply(bid(150.0, limit(900.0))))
+					.get(1, TimeUnit.SECONDS);
+			return List.of(limit(1_000.0));
+		});
+
+		OverlayFrameResponse first = overlayStateService.getFrame(AUCTION_ID);
+		OverlayFrameResponse latest = overlayStateService.getFrame(AUCTION_ID);
+
+		assertThat(first.getPrice()).isEqualTo(150.0);
+		assertThat(first.getTeams()).singleElement()
+				.satisfies(team -> assertThat(team.getRemainingBudget()).isEqualTo(900.0));
+		assertThat(latest.getPlayerId()).isEqualTo(10L);
+		assertThat(latest.getPrice()).isEqualTo(150.0);
+	}
+
+	private static BidPlacedEvent bid(double amount, TeamBidLimitResponse limit) {
+		BidResponse bid = new BidResponse();
+		bid.setPlayerId(10L);
+		bid.setTeamId(1L);
+		bid.setAmount(amount);
+		bid.setTeamLimits(List.of(limit));
+		return new BidPlacedEvent(AUCTION_ID, bid);
+	}
+
+	private static TeamBidLimitResponse limit(double remaining) {
+		TeamBidLimitResponse limit = new TeamBidLimitResponse();
+		limit.setTeamId(1L);
+		limit.setRemainingBudget(remaining);
+		return limit;
+	}
+}
@@ -0,0 +1,70 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auction.cricket.dto.PlayerResponse;
+import com.auction.cricket.entity.PlayerStatus;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.PlayerRow;
+import com.auction.cricket.repository.TeamRepository;
+
+/**
+ * Checks that the player listing is built from one projected query, however
+ * many teams hold players, without loading teams or auctions.
+ */
+class PlayerListingQueryTest {
+
+	private static final long AUCTION_ID = 7L;
+	private static final int PLAYERS = 1_000;
+	private static final int TEAMS = 10;
+
+	private PlayerRepository playerRepository;
+	private TeamRepository teamRepository;
+	private PlayerService playerService;
+
+	@BeforeEach
+	void setUp() {
+		playerRepository = mock(PlayerRepository.class);
+		teamRepository = mock(TeamRepository.class);
+		AuctionRepository auctionRepository = mock(AuctionRepository.class);
+		when(auctionRepository.existsById(AUCTION_ID)).thenReturn(true);
+		playerService = new PlayerService(playerRepository, teamRepository, auctionRepository,
+				mock(AccessEntitlementService.class), mock(BidBookService.class), mock(TeamStatsCache.class),
+				mock(OptimisticRetryExecutor.class), event -> {
+				});
+	}
+
+	@Test
+	void listingIsOneQueryWhateverTheTeams() {
+		List<PlayerRow> rows = new ArrayList<>(PLAYERS);
+		for (int p = 0; p < PLAYERS; p++) {
+			boolean sold = p % 2 == 0;
+			rows.add(new PlayerRow((long) p + 1, AUCTION_ID, "Player " + p, 20 + p % 15,
+					p % 3 == 0 ? "Bowler" : "Batsman", "98765" + p, sold ? "Team " + (p % TEAMS + 1) : null,
+					sold ? PlayerStatus.SOLD : PlayerStatus.AVAILABLE, sold ? 120.0 : 50.0, null, p < 10));
+		}
+		when(playerRepository.findRowsByAuctionId(AUCTION_ID)).thenReturn(rows);
+
+		List<PlayerResponse> players = playerService.getAllPlayers(AUCTION_ID);
+
+		assertThat(players).hasSize(PLAYERS);
+		assertThat(players.get(0).getTeamName()).isEqualTo("Team 1");
+		assertThat(players.get(0).isSold()).isTrue();
+		assertThat(players.get(1).getTeamName()).isNull();
+		verify(playerRepository).findRowsByAuctionId(AUCTION_ID);
+		verifyNoMoreInteractions(playerRepository);
+		verifyNoInteractions(teamRepository);
+	}
+}
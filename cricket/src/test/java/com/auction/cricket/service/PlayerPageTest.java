@@ -0,0 +1,186 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.auction.cricket.dto.PlayerPageRequest;
+import com.auction.cricket.dto.PlayerPageResponse;
+import com.auction.cricket.entity.Auction;
+import com.auction.cricket.entity.Player;
+import com.auction.cricket.entity.PlayerStatus;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.TeamRepository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Pages through players by cursor, evaluating each sort's keyset condition in
+ * memory against rows that tie on name and on price.
+ */
+class PlayerPageTest {
+
+	private static final long AUCTION_ID = 9L;
+
+	private final Auction auction = new Auction();
+	private final List<Player> players = new ArrayList<>();
+	private PlayerRepository playerRepository;
+	private PlayerService playerService;
+
+	@BeforeEach
+	void setUp() {
+		auction.setId(AUCTION_ID);
+		// Three share a name and three share a price, in no particular id order
+		players.add(player(4L, "Kumar", 120.0));
+		players.add(player(1L, "Kumar", 100.0));
+		players.add(player(6L, "Anand", 100.0));
+		players.add(player(2L, "Kumar", 150.0));
+		players.add(player(5L, "Bose", 100.0));
+		players.add(player(3L, "Anand", 90.0));
+		playerRepository = mock(PlayerRepository.class);
+		AuctionRepository auctionRepository = mock(AuctionRepository.class);
+		when(auctionRepository.existsById(AUCTION_ID)).thenReturn(true);
+		playerService = new PlayerService(playerRepository, mock(TeamRepository.class), auctionRepository,
+				mock(AccessEntitlementService.class), mock(BidBookService.class), mock(TeamStatsCache.class),
+				mock(OptimisticRetryExecutor.class), event -> {
+				});
+	}
+
+	@Test
+	void cursorsVisitEveryRowOnceInEachSort() {
+		for (PlayerService.PlayerSort sort : PlayerService.PlayerSort.values()) {
+			List<Player> ordered = players.stream().sorted(orderOf(sort)).toList();
+			List<Player> visited = new ArrayList<>();
+			List<Player> page = ordered.subList(0, 2);
+			while (!page.isEmpty()) {
+				visited.addAll(page);
+				String cursor = sort.cursorOf(page.get(page.size() - 1));
+				page = ordered.stream().filter(evaluate(sort.after(cursor))).limit(2).toList();
+			}
+			assertThat(visited).as(sort.name()).containsExactlyElementsOf(ordered);
+		}
+	}
+
+	@Test
+	void rejectsACursorFromAnotherSort() {
+		String nameCursor = PlayerService.PlayerSort.NAME.cursorOf(players.get(0));
+		PlayerPageRequest request = new PlayerPageRequest();
+		request.setSort("PRICE_ASC");
+		request.setCursor(nameCursor);
+
+		assertThatThrownBy(() -> playerService.getPlayerPage(AUCTION_ID, request))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("PRICE_ASC");
+		assertThatThrownBy(() -> PlayerService.PlayerSort.NAME.after("not a cursor"))
+				.isInstanceOf(IllegalArgumentException.class);
+		verify(playerRepository, never()).findBy(any(Specification.class), any());
+	}
+
+	@Test
+	void onlyTheFirstPageIsCounted() {
+		// The repository returns limit + 1 rows when there is a next page
+		doReturn(players.subList(0, 3)).when(playerRepository).findBy(any(Specification.class), any());
+		when(playerRepository.count(any(Specification.class))).thenReturn(6L);
+		PlayerPageRequest request = new PlayerPageRequest();
+		request.setLimit(2);
+
+		PlayerPageResponse first = playerService.getPlayerPage(AUCTION_ID, request);
+		request.setCursor(first.getNextCursor());
+		PlayerPageResponse second = playerService.getPlayerPage(AUCTION_ID, request);
+
+		assertThat(first.getItems()).hasSize(2);
+		assertThat(first.getTotalCount()).isEqualTo(6L);
+		assertThat(first.getNextCursor()).isEqualTo(PlayerService.PlayerSort.NAME.cursorOf(players.get(1)));
+		assertThat(second.getTotalCount()).isNull();
+		verify(playerRepository, times(1)).count(any(Specification.class));
+	}
+
+	private static Comparator<Player> orderOf(PlayerService.PlayerSort sort) {
+		Comparator<Player> byId = Comparator.comparing(Player::getId);
+		return switch (sort) {
+			case NAME -> Comparator.comparing(Player::getName).thenComparing(byId);
+			case PRICE_ASC -> Comparator.comparing(Player::getCurrentPrice).thenComparing(byId);
+			case PRICE_DESC -> Comparator.comparing(Player::getCurrentPrice).thenComparing(byId).reversed();
+			case REGISTERED -> byId;
+		};
+	}
+
+	/** Runs a keyset specification against a criteria builder that evaluates in memory. */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Predicate<Player> evaluate(Specification<Player> spec) {
+		Map<Object, String> paths = new IdentityHashMap<>();
+		Map<Object, Predicate<Player>> predicates = new IdentityHashMap<>();
+		Root<Player> root = mock(Root.class);
+		when(root.get(anyString())).thenAnswer(call -> {
+			Path<?> path = mock(Path.class);
+			paths.put(path, call.getArgument(0));
+			return path;
+		});
+		CriteriaBuilder cb = mock(CriteriaBuilder.class);
+		when(cb.equal(any(Expression.class), any(Object.class))).thenAnswer(call -> predicate(predicates,
+				player -> Objects.equals(valueOf(player, paths.get(call.getArgument(0))), call.getArgument(1))));
+		when(cb.lessThan(any(Expression.class), any(Comparable.class))).thenAnswer(call -> predicate(predicates,
+				player -> compare(player, paths.get(call.getArgument(0)), call.getArgument(1)) < 0));
+		when(cb.greaterThan(any(Expression.class), any(Comparable.class))).thenAnswer(call -> predicate(predicates,
+				player -> compare(player, paths.get(call.getArgument(0)), call.getArgument(1)) > 0));
+		when(cb.and(any(Expression.class), any(Expression.class))).thenAnswer(call -> predicate(predicates,
+				predicates.get(call.getArgument(0)).and(predicates.get(call.getArgument(1)))));
+		when(cb.or(any(Expression.class), any(Expression.class))).thenAnswer(call -> predicate(predicates,
+				predicates.get(call.getArgument(0)).or(predicates.get(call.getArgument(1)))));
+		return predicates.get(spec.toPredicate(root, null, cb));
+	}
+
+	private static jakarta.persistence.criteria.Predicate predicate(Map<Object, Predicate<Player>> predicates,
+			Predicate<Player> test) {
+		jakarta.persistence.criteria.Predicate predicate = mock(jakarta.persistence.criteria.Predicate.class);
+		predicates.put(predicate, test);
+		return predicate;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compare(Player player, String attribute, Object value) {
+		return ((Comparable) valueOf(player, attribute)).compareTo(value);
+	}
+
+	private static Object valueOf(Player player, String attribute) {
+		return switch (attribute) {
+			case "name" -> player.getName();
+			case "currentPrice" -> player.getCurrentPrice();
+			case "id" -> player.getId();
+			default -> throw new IllegalArgumentException(attribute);
+		};
+	}
+
+	private Player player(Long id, String name, double price) {
+		Player player = new Player();
+		player.setId(id);
+		player.setName(name);
+		player.setCurrentPrice(price);
+		player.setStatus(PlayerStatus.AVAILABLE);
+		player.setAuction(auction);
+		return player;
+	}
+}
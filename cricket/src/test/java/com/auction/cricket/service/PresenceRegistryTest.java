@@ -0,0 +1,70 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.security.Principal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import com.auction.cricket.dto.PresenceResponse;
+import com.auction.cricket.repository.TeamRepository;
+import com.auction.cricket.security.StompAuthenticationInterceptor;
+
+/**
+ * Checks who may join an auction's presence as a team.
+ */
+class PresenceRegistryTest {
+
+	private static final long AUCTION_ID = 8L;
+	private static final long TEAM_ID = 3L;
+
+	private final Principal organizer = () -> "organizer";
+	private final Principal viewer = () -> "viewer";
+	private PresenceRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		StompAuthenticationInterceptor stompAuthentication = mock(StompAuthenticationInterceptor.class);
+		when(stompAuthentication.isOrganizer(organizer, AUCTION_ID)).thenReturn(true);
+		TeamRepository teamRepository = mock(TeamRepository.class);
+		when(teamRepository.existsByIdAndAuctionId(TEAM_ID, AUCTION_ID)).thenReturn(true);
+		registry = new PresenceRegistry(mock(WebSocketService.class), stompAuthentication, teamRepository, 250);
+	}
+
+	@Test
+	void organizerMayJoinAsATeam() {
+		registry.onSubscribe(subscribe("s1", organizer, TEAM_ID));
+
+		PresenceResponse presence = registry.getPresence(AUCTION_ID);
+		assertThat(presence.getTeams()).singleElement()
+				.satisfies(team -> assertThat(team.getTeamId()).isEqualTo(TEAM_ID));
+		assertThat(presence.getAuctioneers()).isZero();
+	}
+
+	@Test
+	void otherUsersClaimingATeamJoinAsViewers() {
+		registry.onSubscribe(subscribe("s1", viewer, TEAM_ID));
+		registry.onSubscribe(subscribe("s2", null, TEAM_ID));
+
+		PresenceResponse presence = registry.getPresence(AUCTION_ID);
+		assertThat(presence.getTeams()).isEmpty();
+		assertThat(presence.getViewers()).isEqualTo(2);
+	}
+
+	private SessionSubscribeEvent subscribe(String sessionId, Principal user, Long teamId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setDestination(WebSocketService.auctionTopic(AUCTION_ID, WebSocketService.PRESENCE));
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId("sub-" + sessionId);
+		accessor.addNativeHeader("team-id", String.valueOf(teamId));
+		return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()),
+				user);
+	}
+}
@@ -0,0 +1,171 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.auction.cricket.dto.BidRequest;
+import com.auction.cricket.dto.ProxyBidResponse;
+import com.auction.cricket.entity.Auction;
+import com.auction.cricket.entity.Player;
+import com.auction.cricket.entity.PlayerStatus;
+import com.auction.cricket.entity.Team;
+import com.auction.cricket.repository.AuctionRepository;
+import com.auction.cricket.repository.BidRuleRepository;
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.TeamRepository;
+import com.auction.cricket.util.HashedTimingWheel;
+
+/**
+ * Plays proxy bidding wars against an in-memory bid book with a minimum bid
+ * of 100 and a flat increment of 10.
+ */
+class ProxyBidResolutionTest {
+
+	private static final long AUCTION_ID = 1L;
+	private static final long PLAYER_ID = 10L;
+	private static final long LEADER = 1L;
+	private static final long RIVAL = 2L;
+	private static final long THIRD = 3L;
+
+	private HashedTimingWheel lotTimer;
+	private BidBookService bidBookService;
+
+	@BeforeEach
+	void setUp() {
+		Auction auction = new Auction();
+		auction.setId(AUCTION_ID);
+		auction.setBasePrice(100.0);
+		auction.setMinimumBid(100.0);
+		auction.setBidIncreaseBy(10.0);
+
+		Player player = new Player();
+		player.setId(PLAYER_ID);
+		player.setName("Player");
+		player.setAuction(auction);
+		player.setCurrentPrice(100.0);
+		player.setStatus(PlayerStatus.AVAILABLE);
+
+		AuctionRepository auctionRepository = mock(AuctionRepository.class);
+		PlayerRepository playerRepository = mock(PlayerRepository.class);
+		TeamRepository teamRepository = mock(TeamRepository.class);
+		when(auctionRepository.findById(AUCTION_ID)).thenReturn(Optional.of(auction));
+		when(playerRepository.findByAuctionIdWithCurrentBid(AUCTION_ID)).thenReturn(List.of(player));
+		when(teamRepository.findByAuctionId(AUCTION_ID))
+				.thenReturn(List.of(team(LEADER, auction), team(RIVAL, auction), team(THIRD, auction)));
+		BidWriteBehindService writeBehindService = mock(BidWriteBehindService.class);
+		when(writeBehindService.persistedSequence(anyLong())).thenReturn(0L);
+
+		lotTimer = new HashedTimingWheel("test-lot-timer", 100, TimeUnit.MILLISECONDS, 64);
+		bidBookService = new BidBookService(playerRepository, teamRepository, auctionRepository, writeBehindService,
+				mock(BidJournal.class), mock(BidIdempotencyCache.class),
+				new BidRuleEngine(mock(BidRuleRepository.class), auctionRepository),
+				mock(ApplicationEventPublisher.class), lotTimer, mock(PlatformTransactionManager.class), 1, 5_000,
+				60_000, 60_000, 60_000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		bidBookService.shutdown();
+		lotTimer.stop();
+	}
+
+	@Test
+	void challengerBeatsALeaderWithoutAProxyByOneIncrement() {
+		bid(LEADER, 100.0);
+
+		ProxyBidResponse response = proxy(RIVAL, 150.0);
+
+		assertThat(response.getLeadingTeamId()).isEqualTo(RIVAL);
+		assertThat(response.getCurrentPrice()).isEqualTo(110.0);
+	}
+
+	@Test
+	void leaderWithAHigherCeilingRaisesJustAboveTheChallenger() {
+		bid(LEADER, 100.0);
+		proxy(LEADER, 200.0);
+
+		ProxyBidResponse response = proxy(RIVAL, 150.0);
+
+		assertThat(response.getLeadingTeamId()).isEqualTo(LEADER);
+		assertThat(response.getCurrentPrice()).isEqualTo(160.0);
+	}
+
+	@Test
+	void leaderRaisesOnlyAsFarAsItsOwnCeiling() {
+		bid(LEADER, 100.0);
+		proxy(LEADER, 155.0);
+
+		ProxyBidResponse response = proxy(RIVAL, 150.0);
+
+		assertThat(response.getLeadingTeamId()).isEqualTo(LEADER);
+		assertThat(response.getCurrentPrice()).isEqualTo(155.0);
+	}
+
+	@Test
+	void challengerWithAHigherCeilingTakesOverJustAboveTheLeaderCeiling() {
+		bid(LEADER, 100.0);
+		proxy(LEADER, 150.0);
+
+		ProxyBidResponse response = proxy(RIVAL, 300.0);
+
+		assertThat(response.getLeadingTeamId()).isEqualTo(RIVAL);
+		assertThat(response.getCurrentPrice()).isEqualTo(160.0);
+	}
+
+	@Test
+	void equalCeilingsKeepTheLeader() {
+		bid(LEADER, 100.0);
+		proxy(LEADER, 150.0);
+
+		ProxyBidResponse response = proxy(RIVAL, 150.0);
+
+		assertThat(response.getLeadingTeamId()).isEqualTo(LEADER);
+		assertThat(response.getCurrentPrice()).isEqualTo(150.0);
+	}
+
+	@Test
+	void manualBidIsAnsweredByTheHighestProxy() {
+		proxy(RIVAL, 150.0);
+		proxy(THIRD, 180.0);
+
+		bid(LEADER, 170.0);
+
+		ProxyBidResponse response = proxy(THIRD, 180.0);
+		assertThat(response.getLeadingTeamId()).isEqualTo(THIRD);
+		assertThat(response.getCurrentPrice()).isEqualTo(180.0);
+	}
+
+	private void bid(long teamId, double amount) {
+		BidRequest request = new BidRequest();
+		request.setAuctionId(AUCTION_ID);
+		request.setPlayerId(PLAYER_ID);
+		request.setAmount(amount);
+		bidBookService.placeBid(request, teamId);
+	}
+
+	private ProxyBidResponse proxy(long teamId, double ceiling) {
+		return bidBookService.registerProxyBid(AUCTION_ID, PLAYER_ID, teamId, ceiling);
+	}
+
+	private static Team team(long id, Auction auction) {
+		Team team = new Team();
+		team.setId(id);
+		team.setName("Team " + id);
+		team.setAuction(auction);
+		team.setRemainingBudget(1_000.0);
+		team.setPointsUsed(0);
+		return team;
+	}
+}
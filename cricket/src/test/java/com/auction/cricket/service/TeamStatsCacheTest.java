@@ -0,0 +1,72 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auction.cricket.repository.PlayerRepository;
+import com.auction.cricket.repository.TeamRoleStats;
+
+/**
+ * Checks that stats are cached per auction and that a load racing an
+ * invalidation of its auction is not cached.
+ */
+class TeamStatsCacheTest {
+
+	private static final long AUCTION_ID = 5L;
+	private static final long OTHER_AUCTION_ID = 6L;
+
+	private PlayerRepository playerRepository;
+	private TeamStatsCache cache;
+
+	@BeforeEach
+	void setUp() {
+		playerRepository = mock(PlayerRepository.class);
+		cache = new TeamStatsCache(playerRepository);
+	}
+
+	@Test
+	void invalidatingOneAuctionKeepsTheOthersCached() {
+		when(playerRepository.findTeamRoleStatsByAuctionIdIn(anyCollection())).thenReturn(List.of());
+		cache.statsFor(List.of(AUCTION_ID, OTHER_AUCTION_ID));
+
+		cache.invalidate(AUCTION_ID);
+		cache.statsFor(List.of(AUCTION_ID, OTHER_AUCTION_ID));
+
+		verify(playerRepository).findTeamRoleStatsByAuctionIdIn(List.of(AUCTION_ID, OTHER_AUCTION_ID));
+		verify(playerRepository).findTeamRoleStatsByAuctionIdIn(List.of(AUCTION_ID));
+	}
+
+	@Test
+	void loadThatRacedAnInvalidationIsNotCached() {
+		// The sale commits while the old squads are being read
+		when(playerRepository.findTeamRoleStatsByAuctionIdIn(anyCollection())).thenAnswer(call -> {
+			cache.invalidate(AUCTION_ID);
+			return List.of();
+		}).thenReturn(List.of(row(1L, "Bowler", 1, 150.0)));
+
+		assertThat(cache.statsFor(AUCTION_ID)).isEmpty();
+		assertThat(cache.statsFor(AUCTION_ID)).containsKey(1L);
+		assertThat(cache.statsFor(AUCTION_ID).get(1L).soldTotal()).isEqualTo(150.0);
+
+		verify(playerRepository, times(2)).findTeamRoleStatsByAuctionIdIn(anyCollection());
+	}
+
+	private static TeamRoleStats row(Long teamId, String role, long players, Double soldTotal) {
+		TeamRoleStats row = mock(TeamRoleStats.class);
+		when(row.getAuctionId()).thenReturn(AUCTION_ID);
+		when(row.getTeamId()).thenReturn(teamId);
+		when(row.getRole()).thenReturn(role);
+		when(row.getPlayersCount()).thenReturn(players);
+		when(row.getSoldTotal()).thenReturn(soldTotal);
+		return row;
+	}
+}
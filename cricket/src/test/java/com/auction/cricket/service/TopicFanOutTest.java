@@ -0,0 +1,92 @@
+package com.auction.cricket.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Compares how many sessions the simple broker delivers one bid to when every
+ * client listens on a global topic and when clients listen only to their own
+ * auction's topic.
+ */
+class TopicFanOutTest {
+
+	private static final int AUCTIONS = 50;
+	private static final int WATCHERS_PER_AUCTION = 200;
+
+	private final AtomicLong delivered = new AtomicLong();
+	private SimpleBrokerMessageHandler broker;
+
+	@BeforeEach
+	void setUp() {
+		MessageChannel clientOutbound = (message, timeout) -> {
+			delivered.incrementAndGet();
+			return true;
+		};
+		broker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), clientOutbound,
+				new ExecutorSubscribableChannel(), List.of("/topic"));
+		broker.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		broker.stop();
+	}
+
+	@Test
+	void perBidDeliveriesFollowTheAuctionAudience() {
+		subscribeAll(auction -> "/topic/bids");
+		long firehoseDeliveries = deliveriesPerBid("/topic/bids");
+
+		tearDown();
+		setUp();
+		subscribeAll(auction -> WebSocketService.auctionTopic(auction, WebSocketService.BIDS));
+		String auctionTopic = WebSocketService.auctionTopic(7L, WebSocketService.BIDS);
+		long partitionedDeliveries = deliveriesPerBid(auctionTopic);
+
+		assertThat(firehoseDeliveries).isEqualTo((long) AUCTIONS * WATCHERS_PER_AUCTION);
+		assertThat(partitionedDeliveries).isEqualTo(WATCHERS_PER_AUCTION);
+	}
+
+	private void subscribeAll(LongFunction<String> destinationFor) {
+		for (long auction = 1; auction <= AUCTIONS; auction++) {
+			for (int watcher = 0; watcher < WATCHERS_PER_AUCTION; watcher++) {
+				String sessionId = "session-" + auction + "-" + watcher;
+				SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+				connect.setSessionId(sessionId);
+				broker.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+				SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+				subscribe.setSessionId(sessionId);
+				subscribe.setSubscriptionId("sub-0");
+				subscribe.setDestination(destinationFor.apply(auction));
+				broker.handleMessage(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+			}
+		}
+	}
+
+	private long deliveriesPerBid(String destination) {
+		delivered.set(0);
+		broker.handleMessage(bidMessage(destination));
+		return delivered.get();
+	}
+
+	private static Message<byte[]> bidMessage(String destination) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(destination);
+		return MessageBuilder.createMessage("{\"amount\":150.0}".getBytes(), accessor.getMessageHeaders());
+	}
+}
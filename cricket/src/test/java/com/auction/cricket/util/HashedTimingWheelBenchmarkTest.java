@@ -0,0 +1,81 @@
+package com.auction.cricket.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Simulates thousands of concurrently running lot countdowns, each restarted a
+ * few times by incoming bids, and checks how late the wheel fires them on
+ * the wall clock. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class HashedTimingWheelBenchmarkTest {
+
+	private static final int LOTS = 5_000;
+	private static final int BIDS_PER_LOT = 3;
+	private static final long TICK_MS = 5;
+
+	private HashedTimingWheel wheel;
+
+	@BeforeEach
+	void setUp() {
+		wheel = new HashedTimingWheel("benchmark-timer", TICK_MS, TimeUnit.MILLISECONDS, 512);
+	}
+
+	@AfterEach
+	void tearDown() {
+		wheel.stop();
+	}
+
+	@Test
+	void tickJitterStaysWithinLowMilliseconds() throws InterruptedException {
+		AtomicLongArray lateness = new AtomicLongArray(LOTS);
+		AtomicInteger cancelledFired = new AtomicInteger();
+		CountDownLatch closed = new CountDownLatch(LOTS);
+
+		for (int lot = 0; lot < LOTS; lot++) {
+			// Earlier countdowns are superseded by later bids and must never fire
+			for (int bid = 0; bid < BIDS_PER_LOT; bid++) {
+				HashedTimingWheel.Timeout stale = wheel.schedule(cancelledFired::incrementAndGet,
+						randomDelayMs(), TimeUnit.MILLISECONDS);
+				stale.cancel();
+			}
+			int index = lot;
+			long delayMs = randomDelayMs();
+			long expectedAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+			wheel.schedule(() -> {
+				lateness.set(index, System.nanoTime() - expectedAt);
+				closed.countDown();
+			}, delayMs, TimeUnit.MILLISECONDS);
+		}
+
+		assertThat(closed.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(cancelledFired.get()).isZero();
+
+		long[] latenessMs = new long[LOTS];
+		for (int i = 0; i < LOTS; i++) {
+			latenessMs[i] = TimeUnit.NANOSECONDS.toMillis(lateness.get(i));
+		}
+		Arrays.sort(latenessMs);
+		long p99 = latenessMs[(int) (LOTS * 0.99)];
+
+		// Never early, and late by at most about one tick for nearly all lots
+		assertThat(latenessMs[0]).as("earliest lateness in ms").isGreaterThanOrEqualTo(0);
+		assertThat(p99).as("p99 lateness in ms").isLessThanOrEqualTo(TICK_MS + 5);
+	}
+
+	private static long randomDelayMs() {
+		return ThreadLocalRandom.current().nextLong(200, 2_000);
+	}
+}
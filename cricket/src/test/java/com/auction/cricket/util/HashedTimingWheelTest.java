@@ -0,0 +1,114 @@
+package com.auction.cricket.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Drives the wheel from a manual clock to check when and in what order
+ * timeouts fire.
+ */
+class HashedTimingWheelTest {
+
+	private static final long TICK_MS = 10;
+	private static final int TICKS_PER_WHEEL = 8;
+
+	private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+	private final List<String> fired = new ArrayList<>();
+	private HashedTimingWheel wheel;
+
+	@BeforeEach
+	void setUp() {
+		wheel = new HashedTimingWheel("test-timer", TICK_MS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL, nanos::get,
+				false);
+	}
+
+	@Test
+	void firesNoEarlierThanTheDelayAndAtMostOneTickLate() {
+		schedule("lot", 25);
+
+		advanceMs(24);
+		assertThat(fired).isEmpty();
+
+		advanceMs(1);
+		// Due in the tick that ends at 30ms
+		assertThat(fired).isEmpty();
+
+		advanceMs(5);
+		assertThat(fired).containsExactly("lot");
+	}
+
+	@Test
+	void firesInDeadlineOrderAcrossTicks() {
+		schedule("third", 45);
+		schedule("first", 5);
+		schedule("second", 22);
+
+		advanceMs(100);
+
+		assertThat(fired).containsExactly("first", "second", "third");
+	}
+
+	@Test
+	void cancelledTimeoutsNeverFire() {
+		HashedTimingWheel.Timeout stale = schedule("stale", 20);
+		schedule("restarted", 30);
+
+		assertThat(stale.cancel()).isTrue();
+		advanceMs(100);
+
+		assertThat(fired).containsExactly("restarted");
+		assertThat(stale.isCancelled()).isTrue();
+		assertThat(stale.cancel()).isFalse();
+	}
+
+	@Test
+	void timeoutsBeyondOneRotationWaitForTheirRound() {
+		// Three full rotations of an 8-slot wheel plus a bit
+		long delayMs = 3 * TICKS_PER_WHEEL * TICK_MS + 15;
+		HashedTimingWheel.Timeout timeout = schedule("late", delayMs);
+
+		advanceMs(delayMs - 1);
+		assertThat(fired).isEmpty();
+
+		advanceMs(TICK_MS + 1);
+		assertThat(fired).containsExactly("late");
+		assertThat(timeout.cancel()).isFalse();
+	}
+
+	@Test
+	void overdueTimeoutsFireOnTheNextTick() {
+		advanceMs(50);
+		schedule("overdue", 0);
+
+		advanceMs(TICK_MS);
+
+		assertThat(fired).containsExactly("overdue");
+	}
+
+	@Test
+	void rejectsSchedulingAfterStop() {
+		wheel.stop();
+
+		assertThatThrownBy(() -> schedule("lot", 10)).isInstanceOf(IllegalStateException.class);
+	}
+
+	private HashedTimingWheel.Timeout schedule(String name, long delayMs) {
+		return wheel.schedule(() -> fired.add(name), delayMs, TimeUnit.MILLISECONDS);
+	}
+
+	/** Moves the clock forward one millisecond at a time, running ticks as they come due. */
+	private void advanceMs(long ms) {
+		for (long i = 0; i < ms; i++) {
+			nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+			wheel.runDueTicks();
+		}
+	}
+}
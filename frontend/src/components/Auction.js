@@ -55,6 +55,9 @@ const Auction = () => {
     const [showTeamBudgets, setShowTeamBudgets] = useState(false);
     const [hasPremiumAccess, setHasPremiumAccess] = useState(false);
     const [upsellOpen, setUpsellOpen] = useState(false);
+    const [syncPoint, setSyncPoint] = useState(null);
+    const [reloadCount, setReloadCount] = useState(0);
+    const [presence, setPresence] = useState(null);
 
     
     const lastBid = Array.isArray(bids) && bids.find(bid => bid.playerId === selectedPlayer?.id);
@@ -237,24 +240,23 @@ const Auction = () => {
         let mounted = true;
 
         const fetchData = async () => {
-            setLoading(true);
+            // Only the first load blanks the page; a resync refreshes in place
+            if (reloadCount === 0) setLoading(true);
             setError(null);
             try {
-                const [playersData, teamsData, auctionData] = await Promise.all([
-                    playerService.getAvailable(auctionId),
-                    teamService.getByAuction(auctionId),
-                    auctionService.getById(auctionId)
-                ]);
+                const snapshot = await auctionService.getSnapshot(auctionId);
+                const playersData = snapshot.availablePlayers;
                 if (mounted) {
                     setPlayers(Array.isArray(playersData) ? playersData : []);
-                    setTeams(teamsData || []);
-                    setAuction(auctionData);
+                    setTeams(snapshot.teams || []);
+                    setAuction(snapshot.auction);
                     setSelectedPlayer((prevSelectedPlayer) => {
                         if (!prevSelectedPlayer && playersData && playersData.length > 0) {
                             return pickRandomPlayer(playersData);
                         }
                         return prevSelectedPlayer;
                     });
+                    setSyncPoint(snapshot);
                 }
             } catch (error) {
                 console.error('Error loading data:', error);
@@ -269,43 +271,72 @@ const Auction = () => {
         return () => {
             mounted = false;
         };
-    }, [auctionId]);
+    }, [auctionId, reloadCount]);
 
     useEffect(() => {
+        if (!syncPoint) return undefined;
         let mounted = true;
 
-        const initializeWebSocket = () => {
-            try {
-                webSocketService.connect();
-                webSocketService.subscribeToBids((bid) => {
-                    if (mounted) {
-                        setBids((prevBids) => [bid, ...prevBids]);
-                        if (selectedPlayer && bid.playerId === selectedPlayer.id) {
-                            setSelectedPlayer(prevPlayer => ({
-                                ...prevPlayer,
-                                currentPrice: bid.amount
-                            }));
-                        }
-                    }
-                });
-                const interval = setInterval(() => {
-                    if (mounted) { /* setWsConnected(webSocketService.client.connected); */ }
-                }, 1000);
-                return () => clearInterval(interval);
-            } catch (error) {
-                console.error('Error initializing WebSocket:', error);
-                if (mounted) setError('Failed to connect to live updates');
-            }
+        try {
+            webSocketService.connect();
+            webSocketService.syncAuction(auctionId, syncPoint, (delta) => {
+                if (!mounted) return;
+                if (delta.type === 'BID') {
+                    const bid = delta.payload;
+                    setBids((prevBids) => [bid, ...prevBids]);
+                    setSelectedPlayer(prevPlayer => (prevPlayer && bid.playerId === prevPlayer.id
+                        ? { ...prevPlayer, currentPrice: bid.amount }
+                        : prevPlayer));
+                } else if (delta.type === 'TEAM') {
+                    refreshTeams();
+                }
+            }, () => {
+                // Too far behind to resume: start again from a fresh snapshot
+                if (mounted) setReloadCount((count) => count + 1);
+            });
+        } catch (error) {
+            console.error('Error initializing WebSocket:', error);
+            if (mounted) setError('Failed to connect to live updates');
+        }
+
+        return () => {
+            mounted = false;
         };
+    }, [auctionId, syncPoint, refreshTeams]);
 
-        const cleanupInterval = initializeWebSocket();
+    // Who is watching: the full picture first, then diffs carrying only teams
+    // whose status changed. Counts are absolute, so the higher version wins
+    useEffect(() => {
+        let mounted = true;
+        const onlineOf = (teamList) => Object.fromEntries((teamList || []).map((t) => [t.teamId, t.online]));
+
+        auctionService.getPresence(auctionId).then((full) => {
+            if (!mounted) return;
+            setPresence((current) => (current && current.version > full.version ? current : {
+                version: full.version,
+                viewers: full.viewers,
+                online: { ...(current?.online || {}), ...onlineOf(full.teams) }
+            }));
+        }).catch((error) => console.error('Error loading presence:', error));
+
+        webSocketService.connect();
+        webSocketService.subscribeToPresence(auctionId, null, (diff) => {
+            if (!mounted) return;
+            setPresence((current) => (current && current.version >= diff.version ? current : {
+                version: diff.version,
+                viewers: diff.viewers,
+                online: { ...(current?.online || {}), ...onlineOf(diff.teams) }
+            }));
+        });
 
         return () => {
             mounted = false;
-            if (cleanupInterval) cleanupInterval();
-            webSocketService.disconnect();
         };
-    }, [auctionId, selectedPlayer]);
+    }, [auctionId]);
+
+    useEffect(() => {
+        return () => webSocketService.disconnect();
+    }, [auctionId]);
 
     useEffect(() => {
         let mounted = true;
@@ -574,6 +605,11 @@ const Auction = () => {
                             {biddingMode === 'LIVE' ? (
                                 <Box mt={2.5} sx={{ p: 2, border: '1px solid', borderColor: 'divider', borderRadius: 2 }}>
                                     <Typography variant="h5" gutterBottom textAlign={{ xs: 'center', md: 'left' }}>Place a Bid</Typography>
+                                    {presence && (
+                                        <Typography variant="body2" color="text.secondary" gutterBottom textAlign={{ xs: 'center', md: 'left' }}>
+                                            {presence.viewers ?? 0} watching
+                                        </Typography>
+                                    )}
                                     <Box display="flex" flexWrap="wrap" gap={1.5} justifyContent={{ xs: 'center', md: 'flex-start' }}>
                                         {teams.map(team => {
                                             const playersCount = team.playersCount ?? 0;
@@ -587,6 +623,21 @@ const Auction = () => {
                                                     startIcon={team.logoUrl ? <Avatar src={team.logoUrl} alt={team.name} sx={{ width: 24, height: 24 }} /> : null}
                                                     sx={{ position: 'relative', pr: 4, minWidth: 140 }}
                                                 >
+                                                    {presence && (
+                                                        <Box
+                                                            component="span"
+                                                            title={presence.online[team.id] ? 'Team connected' : 'Team not connected'}
+                                                            sx={{
+                                                                position: 'absolute',
+                                                                top: 6,
+                                                                left: 6,
+                                                                width: 8,
+                                                                height: 8,
+                                                                borderRadius: '50%',
+                                                                bgcolor: presence.online[team.id] ? 'success.main' : 'grey.400'
+                                                            }}
+                                                        />
+                                                    )}
                                                     {team.name}
                                                     <Box
                                                         component="span"
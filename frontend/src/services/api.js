@@ -148,6 +148,22 @@ export const auctionService = {
         const response = await api.get(`/auctions/${id}`);
         return response.data;
     },
+    getSnapshot: async (id) => {
+        const response = await api.get(`/auctions/${id}/snapshot`);
+        return response.data;
+    },
+    getDeltas: async (id, epoch, since) => {
+        const response = await api.get(`/auctions/${id}/deltas`, { params: { epoch, since } });
+        return response.data;
+    },
+    getPresence: async (id) => {
+        const response = await api.get(`/auctions/${id}/presence`);
+        return response.data;
+    },
+    getOverlay: async (id) => {
+        const response = await api.get(`/auctions/${id}/overlay`);
+        return response.data;
+    },
     create: async (auctionData) => {
         const response = await api.post('/auctions', auctionData);
         return response.data;
@@ -160,16 +176,17 @@ export const auctionService = {
         const response = await api.delete(`/auctions/${id}`);
         return response.data;
     },
-    getUpcoming: async () => {
-        const response = await api.get('/auctions/upcoming');
+    // Listings return { items, nextCursor }; pass nextCursor back for the next page
+    getUpcoming: async (cursor, limit) => {
+        const response = await api.get('/auctions/upcoming', { params: { cursor, limit } });
         return response.data;
     },
-    getRecent: async () => {
-        const response = await api.get('/auctions/recent');
+    getRecent: async (cursor, limit) => {
+        const response = await api.get('/auctions/recent', { params: { cursor, limit } });
         return response.data;
     },
-    getPast: async () => {
-        const response = await api.get('/auctions/past');
+    getPast: async (cursor, limit) => {
+        const response = await api.get('/auctions/past', { params: { cursor, limit } });
         return response.data;
     },
     getMyAuctions: async () => {
@@ -269,6 +286,10 @@ export const playerService = {
         const response = await api.get(`/auctions/${auctionId}/players/available`);
         return response.data;
     },
+    getPage: async (auctionId, params = {}) => {
+        const response = await api.get(`/auctions/${auctionId}/players/page`, { params });
+        return response.data;
+    },
     getByTeam: async (teamId, auctionId) => {
         const response = await api.get(`auctions/${auctionId}/players/team/${teamId}`);
         return response.data;
@@ -10,6 +10,12 @@ class WebSocketService {
             reconnectDelay: 5000,
             heartbeatIncoming: 4000,
             heartbeatOutgoing: 4000,
+            // Read the token on every (re)connect so a fresh login is picked up;
+            // without one the session can subscribe but not place bids
+            beforeConnect: () => {
+                const token = localStorage.getItem('token');
+                this.client.connectHeaders = token ? { Authorization: `Bearer ${token}` } : {};
+            },
             debug: function (str) {
                 console.log('STOMP: ' + str);
             },
@@ -17,6 +23,7 @@ class WebSocketService {
                 console.log('Connected to WebSocket');
                 // Resubscribe to any existing subscriptions
                 this.resubscribe();
+                this.syncs.forEach((sync) => this.startSync(sync));
             },
             onDisconnect: () => {
                 console.log('Disconnected from WebSocket');
@@ -26,6 +33,8 @@ class WebSocketService {
             }
         });
         this.subscriptions = new Map();
+        this.subscriptionHeaders = new Map();
+        this.syncs = new Map();
     }
 
     connect() {
@@ -39,6 +48,8 @@ class WebSocketService {
             this.client.deactivate();
         }
         this.subscriptions.clear();
+        this.subscriptionHeaders.clear();
+        this.syncs.clear();
     }
 
     resubscribe() {
@@ -50,12 +61,12 @@ class WebSocketService {
                 } catch (error) {
                     console.error('Error parsing message:', error);
                 }
-            });
+            }, this.subscriptionHeaders.get(destination) || {});
         });
     }
 
-    subscribeToBids(callback) {
-        const destination = '/topic/bids';
+    subscribeToBids(auctionId, callback) {
+        const destination = `/topic/auctions/${auctionId}/bids`;
         this.subscriptions.set(destination, callback);
         
         if (this.client.connected) {
@@ -70,15 +81,16 @@ class WebSocketService {
         }
     }
 
-    subscribeToPlayerUpdates(playerId, callback) {
-        const destination = `/topic/players/${playerId}`;
+    // Callback receives the id of the player that changed
+    subscribeToPlayerUpdates(auctionId, callback) {
+        const destination = `/topic/auctions/${auctionId}/players`;
         this.subscriptions.set(destination, callback);
         
         if (this.client.connected) {
             this.client.subscribe(destination, (message) => {
                 try {
-                    const player = JSON.parse(message.body);
-                    callback(player);
+                    const playerId = JSON.parse(message.body);
+                    callback(playerId);
                 } catch (error) {
                     console.error('Error parsing player update:', error);
                 }
@@ -86,6 +98,140 @@ class WebSocketService {
         }
     }
 
+    // Callback receives the id of the team that changed
+    subscribeToTeamUpdates(auctionId, callback) {
+        const destination = `/topic/auctions/${auctionId}/teams`;
+        this.subscriptions.set(destination, callback);
+        
+        if (this.client.connected) {
+            this.client.subscribe(destination, (message) => {
+                try {
+                    const teamId = JSON.parse(message.body);
+                    callback(teamId);
+                } catch (error) {
+                    console.error('Error parsing team update:', error);
+                }
+            });
+        }
+    }
+
+    // Joins the auction's presence, as a team when teamId is given and the user
+    // organizes the auction (anyone else joins as a viewer). The callback
+    // receives diffs listing only teams whose status changed; start from getPresence
+    subscribeToPresence(auctionId, teamId, callback) {
+        const destination = `/topic/auctions/${auctionId}/presence`;
+        const headers = teamId ? { 'team-id': String(teamId) } : {};
+        this.subscriptions.set(destination, callback);
+        this.subscriptionHeaders.set(destination, headers);
+
+        if (this.client.connected) {
+            this.client.subscribe(destination, (message) => {
+                try {
+                    callback(JSON.parse(message.body));
+                } catch (error) {
+                    console.error('Error parsing presence update:', error);
+                }
+            }, headers);
+        }
+    }
+
+    // Rendered overlay frames, at most a few per second and only when something changed
+    subscribeToOverlay(auctionId, callback) {
+        const destination = `/topic/auctions/${auctionId}/overlay`;
+        this.subscriptions.set(destination, callback);
+
+        if (this.client.connected) {
+            this.client.subscribe(destination, (message) => {
+                try {
+                    callback(JSON.parse(message.body));
+                } catch (error) {
+                    console.error('Error parsing overlay frame:', error);
+                }
+            });
+        }
+    }
+
+    // Keeps an auction in step with the server from a snapshot onwards. Deltas
+    // are applied in version order; after a reconnect the missed ones are
+    // requested from the server. onResync is called when the server can no
+    // longer fill the gap: load a fresh snapshot and call syncAuction again.
+    syncAuction(auctionId, snapshot, onDelta, onResync) {
+        const key = String(auctionId);
+        const existing = this.syncs.get(key);
+        const sync = existing || { auctionId };
+        Object.assign(sync, {
+            epoch: snapshot.epoch,
+            version: snapshot.version,
+            onDelta,
+            onResync,
+            resyncing: false,
+            pending: null
+        });
+        this.syncs.set(key, sync);
+
+        if (this.client.connected) {
+            if (existing && existing.subscribed) {
+                this.requestResume(sync);
+            } else {
+                this.startSync(sync);
+            }
+        }
+    }
+
+    startSync(sync) {
+        sync.subscribed = true;
+        this.client.subscribe(`/topic/auctions/${sync.auctionId}/deltas`, (message) => {
+            try {
+                const delta = JSON.parse(message.body);
+                if (sync.pending) {
+                    sync.pending.push(delta);
+                } else {
+                    this.applyDelta(sync, delta);
+                }
+            } catch (error) {
+                console.error('Error parsing auction delta:', error);
+            }
+        });
+        this.requestResume(sync);
+    }
+
+    requestResume(sync) {
+        // Live deltas wait here until the missed ones have been applied
+        sync.pending = [];
+        const subscription = this.client.subscribe(`/app/auctions/${sync.auctionId}/resume`, (message) => {
+            subscription.unsubscribe();
+            const live = sync.pending || [];
+            sync.pending = null;
+            const result = JSON.parse(message.body);
+            if (!result.resumed) {
+                this.resync(sync);
+                return;
+            }
+            result.deltas.forEach((delta) => this.applyDelta(sync, delta));
+            live.forEach((delta) => this.applyDelta(sync, delta));
+        }, { epoch: String(sync.epoch), 'from-version': String(sync.version) });
+    }
+
+    applyDelta(sync, delta) {
+        if (sync.resyncing || delta.version <= sync.version) {
+            return;
+        }
+        if (delta.epoch !== sync.epoch || delta.version !== sync.version + 1) {
+            // Server restarted or deltas were lost
+            this.resync(sync);
+            return;
+        }
+        sync.version = delta.version;
+        sync.onDelta(delta);
+    }
+
+    resync(sync) {
+        if (!sync.resyncing) {
+            sync.resyncing = true;
+            sync.onResync();
+        }
+    }
+
     placeBid(bid) {
         if (this.client.connected) {
             this.client.publish({